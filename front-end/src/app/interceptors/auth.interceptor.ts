@@ -0,0 +1,29 @@
+import { HttpInterceptorFn, HttpResponse } from '@angular/common/http';
+import { tap } from 'rxjs';
+
+// Backend oturumun boşta kalma süresini uzattığında yeni token'ı bu header'da döner
+const REFRESHED_TOKEN_HEADER = 'X-Session-Token';
+
+/**
+ * Backend'e giden her isteğe oturum token'ını ekler
+ * (backend token'ı istek başına bir kez doğrular ve kullanıcıyı path id'leri yerine token'dan belirler)
+ * Yanıtta yenilenmiş token varsa sonraki istekler için saklanır.
+ */
+export const authInterceptor: HttpInterceptorFn = (req, next) => {
+  const token = localStorage.getItem('auth_token');
+
+  const authorized = !token || req.headers.has('Authorization')
+    ? req
+    : req.clone({ setHeaders: { Authorization: `Bearer ${token}` } });
+
+  return next(authorized).pipe(
+    tap(event => {
+      if (event instanceof HttpResponse) {
+        const refreshed = event.headers.get(REFRESHED_TOKEN_HEADER);
+        if (refreshed) {
+          localStorage.setItem('auth_token', refreshed);
+        }
+      }
+    })
+  );
+};
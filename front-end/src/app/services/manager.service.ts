@@ -162,6 +162,8 @@ export interface ReportResponse {
   success: boolean;
   message?: string;
   reportedCount?: number;
+  reportedTaskIds?: number[]; // Gerçekten rapor edilen görevler
+  rejectedTaskIds?: number[]; // Kriterleri sağlamadığı için rapor edilmeyen görevler
 }
 
 // Raporlama servisini geri ekle
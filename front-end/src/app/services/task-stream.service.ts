@@ -0,0 +1,73 @@
+import { Injectable } from '@angular/core';
+import { Observable } from 'rxjs';
+
+// Backend'in gönderdiği görev olayı türleri (SSE "event" alanı)
+export type TaskEventType =
+  | 'task-created'
+  | 'task-updated'
+  | 'task-deleted'
+  | 'status-changed'
+  | 'reported'
+  | 'resync';
+
+export interface TaskEvent {
+  type: TaskEventType;
+  gorevid?: number | null;
+  userid?: number | null;
+  assignedById?: number | null;
+  status?: string | null;
+  gorevIds?: number[] | null;
+}
+
+const EVENT_TYPES: TaskEventType[] = [
+  'task-created', 'task-updated', 'task-deleted', 'status-changed', 'reported', 'resync'
+];
+
+@Injectable({
+  providedIn: 'root'
+})
+export class TaskStreamService {
+  private streamUrl = 'http://localhost:8080/api/stream/tasks';
+
+  /**
+   * Oturumdaki kullanıcının görev değişiklik akışı (Server-Sent Events)
+   * Bağlantı koptuktan sonra yeniden kurulursa, arada kaçan olaylar için 'resync' yayınlanır.
+   * Akış açılamazsa (ör. bağlantı sınırı) hata ile biter; abonelik bitince bağlantı kapanır.
+   */
+  events(): Observable<TaskEvent> {
+    return new Observable<TaskEvent>(subscriber => {
+      const token = localStorage.getItem('auth_token');
+      if (!token || typeof EventSource === 'undefined') {
+        subscriber.error(new Error('Görev akışı kullanılamıyor'));
+        return;
+      }
+
+      // EventSource header gönderemediği için token query parametresi ile verilir
+      const source = new EventSource(`${this.streamUrl}?access_token=${encodeURIComponent(token)}`);
+      let connectedBefore = false;
+
+      source.onopen = () => {
+        if (connectedBefore) {
+          subscriber.next({ type: 'resync' });
+        }
+        connectedBefore = true;
+      };
+
+      for (const type of EVENT_TYPES) {
+        source.addEventListener(type, (event: MessageEvent) => {
+          const data = event.data ? JSON.parse(event.data) : {};
+          subscriber.next({ ...data, type });
+        });
+      }
+
+      source.onerror = () => {
+        // CONNECTING durumunda tarayıcı kendisi yeniden bağlanır; CLOSED kalıcı hatadır
+        if (source.readyState === EventSource.CLOSED) {
+          subscriber.error(new Error('Görev akışı kapandı'));
+        }
+      };
+
+      return () => source.close();
+    });
+  }
+}
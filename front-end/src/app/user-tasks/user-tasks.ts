@@ -2,9 +2,10 @@ import { Component, OnInit, OnDestroy } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { Router } from '@angular/router';
-import { Subscription } from 'rxjs';
+import { Subscription, debounceTime } from 'rxjs';
 import { GorevService, GorevDto, UserTaskStats } from '../services/gorev.service';
 import { AuthService, UserDto } from '../services/auth.service';
+import { TaskStreamService } from '../services/task-stream.service';
 
 @Component({
   selector: 'app-user-tasks',
@@ -30,13 +31,18 @@ export class UserTasks implements OnInit, OnDestroy {
   filterStatus: string = 'active'; // 'all', 'active', 'completed'
   completingIds: Set<number> = new Set(); // Tamamlanma işlemi devam eden görevler
   
-  // Otomatik yenileme için
+  // Canlı güncelleme: görevler sadece sunucu değişiklik bildirdiğinde yeniden yüklenir
+  private liveUpdates: Subscription | null = null;
+  private readonly LIVE_UPDATE_DEBOUNCE = 300; // Art arda gelen olaylar tek yüklemeye indirgenir
+  
+  // Akış kullanılamazsa otomatik yenilemeye dönülür
   private autoRefreshInterval: any;
   private readonly REFRESH_INTERVAL = 30000; // 30 saniyede bir yenile
 
   constructor(
     private gorevService: GorevService,
     private authService: AuthService,
+    private taskStream: TaskStreamService,
     private router: Router
   ) {}
 
@@ -57,14 +63,15 @@ export class UserTasks implements OnInit, OnDestroy {
 
     this.subscriptions.push(userSub);
     
-    // Otomatik yenileme başlat
-    this.startAutoRefresh();
+    // Canlı güncellemeleri başlat (olmazsa otomatik yenileme)
+    this.startLiveUpdates();
   }
 
   ngOnDestroy(): void {
     this.subscriptions.forEach(sub => sub.unsubscribe());
     
-    // Otomatik yenilemeyi durdur
+    // Canlı güncellemeyi ve otomatik yenilemeyi durdur
+    this.liveUpdates?.unsubscribe();
     this.stopAutoRefresh();
   }
 
@@ -281,6 +288,28 @@ export class UserTasks implements OnInit, OnDestroy {
     return gorev.gorevid;
   }
   
+  /**
+   * Sunucudan görev değişiklik olaylarını dinle
+   * Akış kapanırsa (ör. bağlantı sınırı) periyodik yenilemeye geçilir
+   */
+  private startLiveUpdates(): void {
+    this.liveUpdates = this.taskStream.events()
+      .pipe(debounceTime(this.LIVE_UPDATE_DEBOUNCE))
+      .subscribe({
+        next: () => {
+          if (this.currentUserId) {
+            this.loadUserTasks();
+            this.loadUserStats();
+          }
+        },
+        error: () => {
+          console.warn('⚠️ Görev akışı kullanılamıyor, otomatik yenilemeye geçiliyor');
+          this.liveUpdates = null;
+          this.startAutoRefresh();
+        }
+      });
+  }
+  
   /**
    * Otomatik yenileme başlat
    */
@@ -311,8 +340,10 @@ export class UserTasks implements OnInit, OnDestroy {
     this.loadUserTasks();
     this.loadUserStats();
     
-    // Otomatik yenileme sıfırla
-    this.stopAutoRefresh();
-    this.startAutoRefresh();
+    // Otomatik yenileme kullanılıyorsa sıfırla
+    if (this.autoRefreshInterval) {
+      this.stopAutoRefresh();
+      this.startAutoRefresh();
+    }
   }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.erdemirProje.gorevTakip.benchmark;
+
+import com.erdemirProje.gorevTakip.GorevTakipApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Uygulamayı bellek içi H2 (MSSQLServer modu) ile açar; servis ve endpoint benchmark'ları gerçek bean'leri kullanır
+ * Ayarlar application.properties'ten yüksek öncelikli (benchmark yerel SQL Server'a bağlanmasın)
+ */
+final class BenchmarkApplication {
+
+	private BenchmarkApplication() {
+	}
+
+	static ConfigurableApplicationContext start(String databaseName, WebApplicationType webApplicationType) {
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("benchmark", properties(databaseName)));
+		return new SpringApplicationBuilder(GorevTakipApplication.class)
+			.environment(environment)
+			.web(webApplicationType)
+			.run();
+	}
+
+	private static Map<String, Object> properties(String databaseName) {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("server.port", "0");
+		properties.put("spring.datasource.url", "jdbc:h2:mem:" + databaseName + ";MODE=MSSQLServer;DB_CLOSE_DELAY=-1");
+		properties.put("spring.datasource.username", "sa");
+		properties.put("spring.datasource.password", "");
+		properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+		// Migration'lar SQL Server'a özgü; şema testlerdeki gibi entity'lerden kurulur
+		properties.put("spring.flyway.enabled", "false");
+		properties.put("spring.jpa.hibernate.ddl-auto", "create");
+		properties.put("spring.jpa.open-in-view", "false");
+		properties.put("gorev.session.secret", "YmVuY2htYXJrLW9ubHktc2VjcmV0LWRvLW5vdC11c2U=");
+		properties.put("management.server.port", "-1");
+		properties.put("springdoc.api-docs.enabled", "false");
+		properties.put("logging.level.root", "WARN");
+		return properties;
+	}
+}
@@ -0,0 +1,68 @@
+package com.erdemirProje.gorevTakip.benchmark;
+
+import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.UserDto;
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import com.erdemirProje.gorevTakip.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity -> DTO dönüşümleri: görev listeleri (GorevDto.fromEntity) ve müdür panelindeki ekip üyeleri (UserDto.fromEntity)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+	@Param({"100", "5000"})
+	private int size;
+
+	private List<GorevYapisi> tasks;
+	private List<User> users;
+
+	@Setup
+	public void setUp() {
+		tasks = SampleData.tasks(size);
+		users = SampleData.users(size);
+	}
+
+	@Benchmark
+	public List<GorevDto> gorevDtoFromEntity() {
+		List<GorevDto> result = new ArrayList<>(tasks.size());
+		for (GorevYapisi task : tasks) {
+			result.add(GorevDto.fromEntity(task));
+		}
+		return result;
+	}
+
+	@Benchmark
+	public List<GorevDto> gorevDtoFromEntityStream() {
+		return tasks.stream().map(GorevDto::fromEntity).toList();
+	}
+
+	@Benchmark
+	public List<UserDto> userDtoFromEntity() {
+		List<UserDto> result = new ArrayList<>(users.size());
+		for (User user : users) {
+			result.add(UserDto.fromEntity(user));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,63 @@
+package com.erdemirProje.gorevTakip.benchmark;
+
+import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Büyük görev listelerinin JSON yazımı (müdür/direktör panelleri ve toplu görev yanıtları)
+ * ObjectMapper Spring Boot'un kullandığı builder ile aynı varsayılanlarla kurulur.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+	@Param({"100", "10000"})
+	private int size;
+
+	private List<GorevDto> tasks;
+	private ObjectMapper objectMapper;
+	private ObjectWriter listWriter;
+
+	@Setup
+	public void setUp() {
+		tasks = SampleData.dtos(size);
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, GorevDto.class));
+	}
+
+	@Benchmark
+	public byte[] writeValueAsBytes() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(tasks);
+	}
+
+	/**
+	 * Yanıt gövdesine doğrudan yazma (ara byte[] oluşturmadan), önceden çözümlenmiş tip ile
+	 */
+	@Benchmark
+	public void writeToStream() throws IOException {
+		listWriter.writeValue(OutputStream.nullOutputStream(), tasks);
+	}
+}
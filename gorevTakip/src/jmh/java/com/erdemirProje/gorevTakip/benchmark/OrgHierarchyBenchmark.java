@@ -0,0 +1,103 @@
+package com.erdemirProje.gorevTakip.benchmark;
+
+import com.erdemirProje.gorevTakip.dto.UserDto;
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.repository.UserRepository;
+import com.erdemirProje.gorevTakip.service.UserHierarchyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Derin organizasyon ağacında bir yöneticinin tüm alt kadrosu: closure table ile tek sorgu
+ * (UserHierarchyService.getDescendants) ile seviye seviye (her yönetici için bir findByManager sorgusu) gezinme
+ * Ağaç: depth seviyeli, her seviyede bir yönetici ve fanout kişilik ekip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrgHierarchyBenchmark {
+
+	@Param({"10", "100"})
+	private int depth;
+
+	@Param({"5"})
+	private int fanout;
+
+	private ConfigurableApplicationContext context;
+	private UserHierarchyService hierarchyService;
+	private UserRepository userRepository;
+	private Long rootId;
+
+	@Setup
+	public void setUp() {
+		context = BenchmarkApplication.start("hierarchy" + depth, WebApplicationType.NONE);
+		hierarchyService = context.getBean(UserHierarchyService.class);
+		userRepository = context.getBean(UserRepository.class);
+
+		User manager = userRepository.save(user("root", User.Role.DIRECTOR, null));
+		rootId = manager.getId();
+		for (int level = 1; level < depth; level++) {
+			List<User> team = new ArrayList<>();
+			for (int i = 0; i < fanout; i++) {
+				team.add(user("l" + level + "-" + i, i == 0 ? User.Role.MANAGER : User.Role.TEAM_MEMBER, manager));
+			}
+			// Her seviyenin ilk kişisi bir sonraki seviyenin yöneticisi
+			manager = userRepository.saveAll(team).get(0);
+		}
+		hierarchyService.rebuild();
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<UserDto> closureTable() {
+		return hierarchyService.getDescendants(rootId);
+	}
+
+	@Benchmark
+	public List<Long> levelByLevel() {
+		List<Long> found = new ArrayList<>();
+		List<User> level = List.of(userRepository.findById(rootId).orElseThrow());
+		while (!level.isEmpty()) {
+			List<User> next = new ArrayList<>();
+			for (User user : level) {
+				next.addAll(userRepository.findByManager(user));
+			}
+			next.forEach(user -> found.add(user.getId()));
+			level = next;
+		}
+		return found;
+	}
+
+	private static User user(String username, User.Role role, User manager) {
+		User user = new User();
+		user.setUsername("bench-" + username);
+		user.setPassword("bench");
+		user.setEmail(username + "@benchmark.local");
+		user.setRole(role);
+		user.setManager(manager);
+		return user;
+	}
+}
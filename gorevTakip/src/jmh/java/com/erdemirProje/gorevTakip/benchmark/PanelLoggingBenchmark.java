@@ -0,0 +1,176 @@
+package com.erdemirProje.gorevTakip.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
+import com.erdemirProje.gorevTakip.repository.UserRepository;
+import com.erdemirProje.gorevTakip.service.DirectorService;
+import com.erdemirProje.gorevTakip.service.TaskTreeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Direktör paneli endpoint'i (GET /api/director/tasks/{id}) eşzamanlı isteklerle, iki log düzeninde:
+ * - SYNC_PER_ROW: eski davranış; her istekte satır başına bir log satırı, istek thread'inde senkron ve
+ *   paylaşılan kilitle dosyaya yazılır (System.out.println'ın konsol/catalina.out'a yazması gibi)
+ * - DEFAULT: mevcut davranış; satır logları TRACE'te kapalı, kalan loglar asenkron appender'dan geçer
+ * İstekler gömülü Tomcat'e gerçek HTTP ile gider (filtreler, JSON yazımı dahil).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PanelLoggingBenchmark {
+
+	private static final String PASSWORD = "bench";
+	private static final int MANAGERS = 20;
+
+	@Param({"SYNC_PER_ROW", "DEFAULT"})
+	private String logging;
+
+	@Param({"500"})
+	private int tasks;
+
+	private ConfigurableApplicationContext context;
+	private HttpClient client;
+	private HttpRequest directorPanel;
+	private FileAppender<ILoggingEvent> rowAppender;
+
+	@Setup
+	public void setUp() throws IOException, InterruptedException {
+		context = BenchmarkApplication.start("panel" + logging, WebApplicationType.SERVLET);
+		UserRepository userRepository = context.getBean(UserRepository.class);
+		GorevYapisiRepository gorevRepository = context.getBean(GorevYapisiRepository.class);
+
+		User director = userRepository.save(user("bench-director", User.Role.DIRECTOR, null));
+		List<User> managers = new ArrayList<>();
+		for (int m = 0; m < MANAGERS; m++) {
+			managers.add(user("bench-manager" + m, User.Role.MANAGER, director));
+		}
+		managers = userRepository.saveAll(managers);
+		// Direktör panelinde görünen görevler: müdürlere atanmış üst görevler
+		List<GorevYapisi> panelTasks = new ArrayList<>();
+		for (int i = 0; i < tasks; i++) {
+			GorevYapisi gorev = new GorevYapisi();
+			gorev.setIsim("Müdür görevi " + i);
+			gorev.setDescription("Direktör paneli benchmark görevi");
+			gorev.setUser(managers.get(i % MANAGERS));
+			gorev.setAssignedBy(director);
+			gorev.setPriority(SampleData.PRIORITIES[i % SampleData.PRIORITIES.length]);
+			gorev.setStatus(SampleData.STATUSES[i % SampleData.STATUSES.length]);
+			gorev.setTreePath(TaskTreeService.ROOT_PATH);
+			panelTasks.add(gorev);
+		}
+		gorevRepository.saveAll(panelTasks);
+
+		if ("SYNC_PER_ROW".equals(logging)) {
+			rowAppender = enableSynchronousRowLogging();
+		}
+
+		String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+		client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+		String token = login(baseUrl, director.getUsername());
+		directorPanel = HttpRequest.newBuilder(URI.create(baseUrl + "/api/director/tasks/" + director.getId()))
+			.header("Authorization", "Bearer " + token)
+			.GET()
+			.build();
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (rowAppender != null) {
+			rowAppender.stop();
+		}
+		context.close();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public int directorPanel() throws IOException, InterruptedException {
+		HttpResponse<byte[]> response = client.send(directorPanel, HttpResponse.BodyHandlers.ofByteArray());
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("Direktör paneli: " + response.statusCode());
+		}
+		return response.body().length;
+	}
+
+	/**
+	 * DirectorService'in satır loglarını açar ve istek thread'inde senkron yazan bir dosya appender'ına bağlar
+	 */
+	private static FileAppender<ILoggingEvent> enableSynchronousRowLogging() {
+		LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(loggerContext);
+		encoder.setPattern("%msg%n");
+		encoder.start();
+
+		FileAppender<ILoggingEvent> appender = new FileAppender<>();
+		appender.setContext(loggerContext);
+		appender.setFile("target/panel-logging-benchmark.log");
+		appender.setAppend(false);
+		appender.setImmediateFlush(true);
+		appender.setEncoder(encoder);
+		appender.start();
+
+		Logger logger = loggerContext.getLogger(DirectorService.class);
+		logger.setLevel(Level.TRACE);
+		logger.setAdditive(false);
+		logger.addAppender(appender);
+		return appender;
+	}
+
+	private String login(String baseUrl, String username) throws IOException, InterruptedException {
+		ObjectMapper objectMapper = new ObjectMapper();
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+				Map.of("usernameOrEmail", username, "password", PASSWORD))))
+			.build();
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		return objectMapper.readTree(response.body()).get("token").asText();
+	}
+
+	private static User user(String username, User.Role role, User manager) {
+		User user = new User();
+		user.setUsername(username);
+		user.setPassword(PASSWORD);
+		user.setEmail(username + "@benchmark.local");
+		user.setRole(role);
+		user.setManager(manager);
+		return user;
+	}
+}
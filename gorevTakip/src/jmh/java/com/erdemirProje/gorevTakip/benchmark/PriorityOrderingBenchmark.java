@@ -0,0 +1,64 @@
+package com.erdemirProje.gorevTakip.benchmark;
+
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Görevlerin öncelik sırasına dizilmesi: her karşılaştırmada priority metnini çözmek (eski bellek içi sıralama)
+ * ile kayıtta tutulan priorityRank'e göre sıralamanın karşılaştırması
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriorityOrderingBenchmark {
+
+	private static final Comparator<GorevYapisi> BY_PRIORITY_TEXT = Comparator
+		.comparingInt((GorevYapisi gorev) -> GorevYapisi.Priority.fromValue(gorev.getPriority()).getRank())
+		.thenComparing(GorevYapisi::getGorevid);
+
+	private static final Comparator<GorevYapisi> BY_STORED_RANK = Comparator
+		.comparing(GorevYapisi::getPriorityRank)
+		.thenComparing(GorevYapisi::getGorevid);
+
+	@Param({"100", "10000"})
+	private int size;
+
+	private List<GorevYapisi> tasks;
+
+	@Setup
+	public void setUp() {
+		tasks = SampleData.tasks(size);
+	}
+
+	@Benchmark
+	public List<GorevYapisi> sortByPriorityText() {
+		List<GorevYapisi> sorted = new ArrayList<>(tasks);
+		sorted.sort(BY_PRIORITY_TEXT);
+		return sorted;
+	}
+
+	@Benchmark
+	public List<GorevYapisi> sortByStoredRank() {
+		List<GorevYapisi> sorted = new ArrayList<>(tasks);
+		sorted.sort(BY_STORED_RANK);
+		return sorted;
+	}
+}
@@ -0,0 +1,78 @@
+package com.erdemirProje.gorevTakip.benchmark;
+
+import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import com.erdemirProje.gorevTakip.entity.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark'lar için sabit tohumlu örnek veri (her çalıştırmada aynı içerik)
+ */
+final class SampleData {
+
+	// Eski kayıtlarda Türkçe/İngilizce ve farklı büyük-küçük harfli değerler birlikte bulunur
+	static final String[] PRIORITIES = {"HIGH", "yüksek", "Orta", "MEDIUM", "low", "düşük", null, "acil"};
+	static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED", "ARCHIVED"};
+
+	private static final int TEAM_SIZE = 25;
+
+	private SampleData() {
+	}
+
+	static List<User> users(int count) {
+		List<User> users = new ArrayList<>(count);
+		User director = user(1L, User.Role.DIRECTOR, null);
+		User manager = director;
+		for (int i = 0; i < count; i++) {
+			if (i % TEAM_SIZE == 0) {
+				manager = user(100_000L + i, User.Role.MANAGER, director);
+			}
+			users.add(user(10L + i, User.Role.TEAM_MEMBER, manager));
+		}
+		return users;
+	}
+
+	static List<GorevYapisi> tasks(int count) {
+		Random random = new Random(42);
+		List<User> users = users(Math.max(1, count / 10));
+		List<GorevYapisi> tasks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			User owner = users.get(random.nextInt(users.size()));
+			GorevYapisi gorev = new GorevYapisi();
+			gorev.setGorevid((long) i + 1);
+			gorev.setIsim("Görev " + i);
+			gorev.setDescription("Üç aylık raporun " + i + ". bölümünü hazırla ve müdüre gönder");
+			gorev.setUser(owner);
+			gorev.setAssignedBy(owner.getManager());
+			gorev.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+			gorev.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+			gorev.setReportedToDirector(random.nextInt(10) == 0);
+			if (i > 0 && random.nextInt(4) == 0) {
+				gorev.setParentTask(tasks.get(random.nextInt(i)));
+			}
+			tasks.add(gorev);
+		}
+		return tasks;
+	}
+
+	static List<GorevDto> dtos(int count) {
+		return tasks(count).stream().map(GorevDto::fromEntity).toList();
+	}
+
+	private static User user(Long id, User.Role role, User manager) {
+		User user = new User();
+		user.setId(id);
+		user.setUsername("kullanici" + id);
+		user.setEmail("kullanici" + id + "@erdemir.com.tr");
+		user.setFullName("Kullanıcı " + id);
+		user.setRole(role);
+		user.setManager(manager);
+		if (role == User.Role.MANAGER) {
+			user.setManagerType("Yazılım Müdürü");
+		}
+		return user;
+	}
+}
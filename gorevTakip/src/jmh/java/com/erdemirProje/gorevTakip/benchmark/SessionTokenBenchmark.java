@@ -0,0 +1,103 @@
+package com.erdemirProje.gorevTakip.benchmark;
+
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.service.AuthService;
+import com.erdemirProje.gorevTakip.service.InMemorySessionStore;
+import com.erdemirProje.gorevTakip.service.SessionStore;
+import com.erdemirProje.gorevTakip.service.SessionTokenCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Oturum token'ı üretimi ve doğrulaması (AuthService.login / AuthenticationFilter yolu) eşzamanlı thread'lerle
+ * Doğrulama ve çıkış doğrudan AuthService üzerinden ölçülür; bu yollar veritabanı ve önbellek
+ * bileşenlerini kullanmadığı için AuthService sadece token codec'i ve oturum deposuyla kurulur.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionTokenBenchmark {
+
+	private static final int TOKEN_COUNT = 4096;
+	// BenchmarkApplication ile aynı, sadece ölçüm için
+	private static final String SECRET = "YmVuY2htYXJrLW9ubHktc2VjcmV0LWRvLW5vdC11c2U=";
+
+	private SessionStore sessionStore;
+	private SessionTokenCodec tokenCodec;
+	private AuthService authService;
+	private SessionPrincipal[] principals;
+	private String[] tokens;
+
+	@Setup
+	public void setUp() {
+		sessionStore = new InMemorySessionStore();
+		tokenCodec = new SessionTokenCodec(SECRET, 12, 0);
+		authService = new AuthService(null, null, null, null, null, null, tokenCodec, sessionStore);
+		principals = new SessionPrincipal[TOKEN_COUNT];
+		tokens = new String[TOKEN_COUNT];
+		for (int i = 0; i < TOKEN_COUNT; i++) {
+			principals[i] = new SessionPrincipal(10L + i, User.Role.TEAM_MEMBER, 2L + i % 40);
+			tokens[i] = tokenCodec.issue(principals[i]);
+		}
+		// Çıkış yapılmış token'ların bir kısmı listede dursun (arama boş listeye karşı ölçülmesin)
+		long expiresAt = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+		for (int i = 0; i < TOKEN_COUNT; i += 16) {
+			tokenCodec.parse(tokens[i]).ifPresent(claims -> sessionStore.revokeToken(claims.tokenId(), expiresAt));
+		}
+	}
+
+	@Benchmark
+	@Threads(8)
+	public String issue() {
+		return tokenCodec.issue(principals[ThreadLocalRandom.current().nextInt(TOKEN_COUNT)]);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Optional<SessionPrincipal> validate() {
+		return authService.getPrincipalByToken(tokens[ThreadLocalRandom.current().nextInt(TOKEN_COUNT)]);
+	}
+
+	/**
+	 * Gerçekçi karışım: her istekte doğrulama, arada giriş ve çıkış
+	 */
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(6)
+	public Optional<SessionPrincipal> mixedValidate() {
+		return validate();
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(1)
+	public String mixedLogin() {
+		return issue();
+	}
+
+	@Benchmark
+	@Group("mixed")
+	@GroupThreads(1)
+	public boolean mixedLogout() {
+		return authService.logout(tokens[ThreadLocalRandom.current().nextInt(TOKEN_COUNT)]);
+	}
+}
@@ -0,0 +1,156 @@
+package com.erdemirProje.gorevTakip.benchmark;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binlerce görevin eklenmesi: IDENTITY id (Hibernate her satırı ayrı INSERT ile gönderir, id'yi geri okur)
+ * ile pooled sequence + JDBC batch (50 id tek sequence çağrısıyla ayrılır, 50 satır tek batch'te gider)
+ *
+ * Hibernate'in iki stratejide gönderdiği SQL'ler JDBC ile birebir uygulanır; entity eşlemesi tek strateji
+ * taşıyabildiği için iki durum aynı süreçte Hibernate üzerinden ölçülemez. "tcp" modunda H2 localhost
+ * üzerinden kullanılır, böylece her ifadenin ağ gidiş-dönüşü de ölçüme girer (SQL Server'daki gibi).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskInsertBenchmark {
+
+	// Uygulamadaki allocationSize ve hibernate.jdbc.batch_size ile aynı
+	private static final int BATCH_SIZE = 50;
+
+	private static final String COLUMNS = "isim VARCHAR(255), description VARCHAR(255), userid BIGINT, "
+			+ "priority VARCHAR(255), priority_rank INT, status VARCHAR(255)";
+
+	@Param({"1000", "5000"})
+	private int rows;
+
+	@Param({"mem", "tcp"})
+	private String transport;
+
+	private Server server;
+	private Connection connection;
+
+	@Setup
+	public void setUp() throws SQLException {
+		String url;
+		if ("tcp".equals(transport)) {
+			server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+			url = "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:insert;MODE=MSSQLServer;DB_CLOSE_DELAY=-1";
+		} else {
+			url = "jdbc:h2:mem:insert;MODE=MSSQLServer;DB_CLOSE_DELAY=-1";
+		}
+		connection = DriverManager.getConnection(url, "sa", "");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE gorev_identity (gorevid BIGINT IDENTITY PRIMARY KEY, " + COLUMNS + ")");
+			statement.execute("CREATE TABLE gorev_sequence (gorevid BIGINT PRIMARY KEY, " + COLUMNS + ")");
+			statement.execute("CREATE SEQUENCE gorev_seq START WITH 1 INCREMENT BY " + BATCH_SIZE);
+		}
+		connection.setAutoCommit(false);
+	}
+
+	@Setup(Level.Iteration)
+	public void truncate() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("TRUNCATE TABLE gorev_identity");
+			statement.execute("TRUNCATE TABLE gorev_sequence");
+		}
+		connection.commit();
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+		if (server != null) {
+			server.stop();
+		}
+	}
+
+	/**
+	 * IDENTITY: satır başına bir INSERT ve üretilen id'nin okunması (batch yok)
+	 */
+	@Benchmark
+	public long identityRowByRow() throws SQLException {
+		long lastId = 0;
+		try (PreparedStatement insert = connection.prepareStatement(
+				"INSERT INTO gorev_identity (isim, description, userid, priority, priority_rank, status) VALUES (?, ?, ?, ?, ?, ?)",
+				Statement.RETURN_GENERATED_KEYS)) {
+			for (int i = 0; i < rows; i++) {
+				bind(insert, 1, i);
+				insert.executeUpdate();
+				try (ResultSet keys = insert.getGeneratedKeys()) {
+					keys.next();
+					lastId = keys.getLong(1);
+				}
+			}
+		}
+		connection.commit();
+		return lastId;
+	}
+
+	/**
+	 * Pooled sequence: 50 satırda bir sequence çağrısı, 50 satırlık JDBC batch
+	 */
+	@Benchmark
+	public long pooledSequenceBatched() throws SQLException {
+		long lastId = 0;
+		try (PreparedStatement nextBlock = connection.prepareStatement("SELECT NEXT VALUE FOR gorev_seq");
+			 PreparedStatement insert = connection.prepareStatement(
+					 "INSERT INTO gorev_sequence (gorevid, isim, description, userid, priority, priority_rank, status) "
+							 + "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+			long nextId = 0;
+			long blockEnd = 0;
+			for (int i = 0; i < rows; i++) {
+				if (nextId == blockEnd) {
+					try (ResultSet block = nextBlock.executeQuery()) {
+						block.next();
+						nextId = block.getLong(1);
+						blockEnd = nextId + BATCH_SIZE;
+					}
+				}
+				lastId = nextId++;
+				insert.setLong(1, lastId);
+				bind(insert, 2, i);
+				insert.addBatch();
+				if ((i + 1) % BATCH_SIZE == 0) {
+					insert.executeBatch();
+				}
+			}
+			insert.executeBatch();
+		}
+		connection.commit();
+		return lastId;
+	}
+
+	private static void bind(PreparedStatement insert, int from, int i) throws SQLException {
+		insert.setString(from, "Görev " + i);
+		insert.setString(from + 1, "Toplu eklenen görev açıklaması " + i);
+		insert.setLong(from + 2, 10L + i % 100);
+		insert.setString(from + 3, SampleData.PRIORITIES[i % 3]);
+		insert.setInt(from + 4, 1 + i % 3);
+		insert.setString(from + 5, "PENDING");
+	}
+}
@@ -0,0 +1,139 @@
+package com.erdemirProje.gorevTakip.loadtest;
+
+import com.erdemirProje.gorevTakip.loadtest.LoadTestSettings.Operation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * İşlem bazında gecikme örnekleri ve sonuç raporu
+ * Her worker kendi örneklerini tutar (ölçüm sırasında paylaşılan yapı yok), rapor sonunda birleştirilir.
+ */
+public class LatencyReport {
+
+	private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+	private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+
+	public void record(Operation operation, long nanos, boolean success) {
+		samples.computeIfAbsent(operation, key -> new Samples()).add(nanos);
+		if (!success) {
+			errors.merge(operation, 1L, Long::sum);
+		}
+	}
+
+	public void merge(LatencyReport other) {
+		other.samples.forEach((operation, otherSamples) ->
+			samples.computeIfAbsent(operation, key -> new Samples()).addAll(otherSamples));
+		other.errors.forEach((operation, count) -> errors.merge(operation, count, Long::sum));
+	}
+
+	/**
+	 * İşlem başına sayı, hata, saniyedeki işlem ve ms cinsinden yüzdelikler
+	 */
+	public Map<String, Object> summarize(double seconds) {
+		Map<String, Object> operations = new LinkedHashMap<>();
+		Samples all = new Samples();
+		long allErrors = 0;
+		for (Operation operation : Operation.values()) {
+			Samples operationSamples = samples.get(operation);
+			if (operationSamples == null) {
+				continue;
+			}
+			long operationErrors = errors.getOrDefault(operation, 0L);
+			operations.put(operation.name(), stats(operationSamples, operationErrors, seconds));
+			all.addAll(operationSamples);
+			allErrors += operationErrors;
+		}
+		operations.put("TOTAL", stats(all, allErrors, seconds));
+		return operations;
+	}
+
+	public static void print(Map<String, Object> operations) {
+		System.out.printf("%-20s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+			"işlem", "sayı", "hata", "işlem/sn", "ort ms", "p50 ms", "p95 ms", "p99 ms", "max ms");
+		operations.forEach((name, value) -> {
+			@SuppressWarnings("unchecked")
+			Map<String, Number> row = (Map<String, Number>) value;
+			System.out.printf("%-20s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+				row.get("count").longValue(), row.get("errors").longValue(), row.get("throughput").doubleValue(),
+				row.get("meanMs").doubleValue(), row.get("p50Ms").doubleValue(), row.get("p95Ms").doubleValue(),
+				row.get("p99Ms").doubleValue(), row.get("maxMs").doubleValue());
+		});
+	}
+
+	/**
+	 * Ayarlar ve sonuçlar benchmarks/results/loadtest-<zaman>.json olarak yazılır
+	 */
+	public static Path write(String directory, LoadTestSettings settings, Map<String, Object> operations) throws IOException {
+		Path dir = Files.createDirectories(Path.of(directory));
+		Path file = dir.resolve("loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("settings", settings);
+		result.put("operations", operations);
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), result);
+		return file;
+	}
+
+	private static Map<String, Number> stats(Samples operationSamples, long operationErrors, double seconds) {
+		long[] sorted = operationSamples.sorted();
+		Map<String, Number> row = new LinkedHashMap<>();
+		row.put("count", sorted.length);
+		row.put("errors", operationErrors);
+		row.put("throughput", sorted.length / seconds);
+		row.put("meanMs", sorted.length == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1e6);
+		for (Map.Entry<String, Double> percentile : List.of(
+				Map.entry("p50Ms", 0.50), Map.entry("p95Ms", 0.95), Map.entry("p99Ms", 0.99))) {
+			row.put(percentile.getKey(), percentile(sorted, percentile.getValue()) / 1e6);
+		}
+		row.put("maxMs", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+		return row;
+	}
+
+	// En yakın sıra yöntemi (nearest-rank)
+	static long percentile(long[] sorted, double quantile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(quantile * sorted.length);
+		return sorted[Math.max(0, rank - 1)];
+	}
+
+	/**
+	 * Büyüyen long dizisi (kutulama olmadan)
+	 */
+	private static final class Samples {
+		private long[] values = new long[1024];
+		private int size;
+
+		void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		void addAll(Samples other) {
+			if (size + other.size > values.length) {
+				values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+			}
+			System.arraycopy(other.values, 0, values, size, other.size);
+			size += other.size;
+		}
+
+		long[] sorted() {
+			long[] copy = Arrays.copyOf(values, size);
+			Arrays.sort(copy);
+			return copy;
+		}
+	}
+}
@@ -0,0 +1,242 @@
+package com.erdemirProje.gorevTakip.loadtest;
+
+import com.erdemirProje.gorevTakip.loadtest.LoadTestSettings.Operation;
+import com.erdemirProje.gorevTakip.loadtest.SyntheticOrgSeeder.Team;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kapalı döngü yük üretici: her sanal kullanıcı ağırlıklara göre bir işlem seçer, çalıştırır ve
+ * (ısınma süresinden sonra) süresini kaydeder. Token'lar teste başlamadan önce gerçek login ile alınır.
+ */
+public class LoadDriver {
+
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+	private static final int MAX_REPORT_BATCH = 10;
+
+	private final String baseUrl;
+	private final LoadTestSettings settings;
+	private final List<Team> teams;
+	private final HttpClient client = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.connectTimeout(REQUEST_TIMEOUT)
+		.build();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	// username -> token
+	private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+	// Ekip üyesi -> son görülen ETag (tarayıcının otomatik yenilemesi gibi)
+	private final Map<Long, String> userEtags = new ConcurrentHashMap<>();
+
+	private final Operation[] operations;
+	private final int[] cumulativeWeights;
+
+	public LoadDriver(String baseUrl, LoadTestSettings settings, List<Team> teams) {
+		this.baseUrl = baseUrl;
+		this.settings = settings;
+		this.teams = teams;
+		List<Operation> weighted = new ArrayList<>();
+		List<Integer> cumulative = new ArrayList<>();
+		int total = 0;
+		for (Map.Entry<Operation, Integer> entry : settings.getMix().entrySet()) {
+			if (entry.getValue() > 0) {
+				total += entry.getValue();
+				weighted.add(entry.getKey());
+				cumulative.add(total);
+			}
+		}
+		if (weighted.isEmpty() || teams.isEmpty()) {
+			throw new IllegalArgumentException("İşlem ağırlıkları ve en az bir ekip gerekli");
+		}
+		this.operations = weighted.toArray(Operation[]::new);
+		this.cumulativeWeights = cumulative.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Tüm müdür ve ekip üyeleri için login
+	 */
+	public void login() throws Exception {
+		List<String> usernames = new ArrayList<>();
+		for (Team team : teams) {
+			usernames.add(team.managerUsername());
+			usernames.addAll(team.memberUsernames());
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(16, settings.getVirtualUsers()));
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (String username : usernames) {
+				futures.add(executor.submit(() -> {
+					String body = objectMapper.writeValueAsString(
+						Map.of("usernameOrEmail", username, "password", SyntheticOrgSeeder.PASSWORD));
+					HttpResponse<String> response = client.send(post("/api/auth/login", null, body),
+						HttpResponse.BodyHandlers.ofString());
+					if (response.statusCode() != 200) {
+						throw new IllegalStateException("Login başarısız: " + username + " -> " + response.statusCode());
+					}
+					tokens.put(username, objectMapper.readTree(response.body()).get("token").asText());
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Isınma + ölçüm süresi boyunca yük üret
+	 * @return Ölçüm süresindeki tüm örnekler
+	 */
+	public LatencyReport run() throws Exception {
+		long now = System.nanoTime();
+		long measureFrom = now + TimeUnit.SECONDS.toNanos(settings.getWarmupSeconds());
+		long endAt = measureFrom + TimeUnit.SECONDS.toNanos(settings.getDurationSeconds());
+
+		ExecutorService executor = Executors.newFixedThreadPool(settings.getVirtualUsers());
+		try {
+			List<Future<LatencyReport>> futures = new ArrayList<>();
+			for (int i = 0; i < settings.getVirtualUsers(); i++) {
+				futures.add(executor.submit(() -> worker(measureFrom, endAt)));
+			}
+			LatencyReport report = new LatencyReport();
+			for (Future<LatencyReport> future : futures) {
+				report.merge(future.get());
+			}
+			return report;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private LatencyReport worker(long measureFrom, long endAt) throws InterruptedException {
+		LatencyReport report = new LatencyReport();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while (System.nanoTime() < endAt) {
+			Operation operation = pick(random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]));
+			Team team = teams.get(random.nextInt(teams.size()));
+			long start = System.nanoTime();
+			boolean success;
+			try {
+				success = execute(operation, team, random);
+			} catch (IOException e) {
+				success = false;
+			}
+			if (start >= measureFrom) {
+				report.record(operation, System.nanoTime() - start, success);
+			}
+			if (settings.getThinkTimeMillis() > 0) {
+				Thread.sleep(settings.getThinkTimeMillis());
+			}
+		}
+		return report;
+	}
+
+	private Operation pick(int value) {
+		for (int i = 0; i < cumulativeWeights.length; i++) {
+			if (value < cumulativeWeights[i]) {
+				return operations[i];
+			}
+		}
+		return operations[operations.length - 1];
+	}
+
+	private boolean execute(Operation operation, Team team, ThreadLocalRandom random) throws IOException, InterruptedException {
+		String managerToken = tokens.get(team.managerUsername());
+		Long managerId = team.managerId();
+		switch (operation) {
+			case MANAGER_PANEL -> {
+				// Panel açılışında frontend'in yaptığı istekler (önbelleksiz ilk yükleme)
+				return ok(get("/api/manager/team-members/" + managerId, managerToken, null))
+					& ok(get("/api/manager/team-tasks/" + managerId, managerToken, null))
+					& ok(get("/api/manager/my-tasks/" + managerId, managerToken, null))
+					& ok(get("/api/manager/team-performance/" + managerId, managerToken, null));
+			}
+			case USER_POLL -> {
+				int index = random.nextInt(team.memberIds().size());
+				Long userId = team.memberIds().get(index);
+				HttpResponse<String> response = get("/api/user/gorev/" + userId,
+					tokens.get(team.memberUsernames().get(index)), userEtags.get(userId));
+				response.headers().firstValue("ETag").ifPresent(etag -> userEtags.put(userId, etag));
+				return response.statusCode() == 200 || response.statusCode() == 304;
+			}
+			case ASSIGN_TASK -> {
+				Long memberId = team.memberIds().get(random.nextInt(team.memberIds().size()));
+				String body = objectMapper.writeValueAsString(Map.of(
+					"isim", "Yük testi görevi " + random.nextInt(1_000_000),
+					"description", "Yük testi sırasında atandı",
+					"userid", memberId,
+					"priority", random.nextBoolean() ? "HIGH" : "MEDIUM",
+					"status", "PENDING"));
+				HttpResponse<String> response = send(post("/api/manager/assign-task", managerToken, body));
+				return response.statusCode() == 200 && objectMapper.readTree(response.body()).path("success").asBoolean();
+			}
+			case REPORT_TO_DIRECTOR -> {
+				HttpResponse<String> completed = get("/api/manager/completed-tasks/" + managerId, managerToken, null);
+				if (!ok(completed)) {
+					return false;
+				}
+				List<Long> taskIds = new ArrayList<>();
+				for (JsonNode task : objectMapper.readTree(completed.body())) {
+					if (!task.path("reportedToDirector").asBoolean() && taskIds.size() < MAX_REPORT_BATCH) {
+						taskIds.add(task.path("gorevid").asLong());
+					}
+				}
+				if (taskIds.isEmpty()) {
+					return true;
+				}
+				String body = objectMapper.writeValueAsString(Map.of("taskIds", taskIds));
+				return ok(send(post("/api/manager/report-to-director/" + managerId, managerToken, body)));
+			}
+			default -> throw new IllegalStateException("Bilinmeyen işlem: " + operation);
+		}
+	}
+
+	private HttpResponse<String> get(String path, String token, String etag) throws IOException, InterruptedException {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+			.timeout(REQUEST_TIMEOUT)
+			.header("Authorization", "Bearer " + token)
+			.GET();
+		if (etag != null) {
+			request.header("If-None-Match", etag);
+		}
+		return send(request.build());
+	}
+
+	private HttpRequest post(String path, String token, String body) {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+			.timeout(REQUEST_TIMEOUT)
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body));
+		if (token != null) {
+			request.header("Authorization", "Bearer " + token);
+		}
+		return request.build();
+	}
+
+	private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+		return client.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	private static boolean ok(HttpResponse<String> response) {
+		return response.statusCode() / 100 == 2;
+	}
+}
@@ -0,0 +1,82 @@
+package com.erdemirProje.gorevTakip.loadtest;
+
+import com.erdemirProje.gorevTakip.GorevTakipApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Uçtan uca yük testi: uygulamayı gömülü Tomcat ve bellek içi H2 (MSSQLServer modu) ile açar,
+ * sentetik organizasyonu üretir, gerçek HTTP istekleriyle yük uygular ve sonuçları raporlar.
+ *
+ * Çalıştırma: mvn -Ploadtest verify -Dloadtest.args="--loadtest.virtual-users=64 --loadtest.duration-seconds=120"
+ * Komut satırındaki spring.* değerleri aşağıdaki varsayılanları ezer (ör. havuz boyutu).
+ */
+@Slf4j
+public class LoadTestApplication {
+
+	public static void main(String[] args) throws Exception {
+		// Komut satırı argümanlarından düşük, application.properties'ten yüksek öncelikli
+		// (geliştiricinin SQL Server ayarları yük testini gerçek veritabanına yönlendirmesin)
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("loadtest", defaults()));
+
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(GorevTakipApplication.class, SyntheticOrgSeeder.class)
+			.environment(environment)
+			.run(args);
+		int exitCode = 0;
+		try {
+			SyntheticOrgSeeder seeder = context.getBean(SyntheticOrgSeeder.class);
+			LoadTestSettings settings = seeder.getSettings();
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+			LoadDriver driver = new LoadDriver("http://localhost:" + port, settings, seeder.getTeams());
+			driver.login();
+			System.out.printf("Yük testi: %d sanal kullanıcı, %d sn ısınma + %d sn ölçüm, karışım %s%n",
+				settings.getVirtualUsers(), settings.getWarmupSeconds(), settings.getDurationSeconds(), settings.getMix());
+
+			LatencyReport report = driver.run();
+			Map<String, Object> operations = report.summarize(settings.getDurationSeconds());
+			LatencyReport.print(operations);
+			Path file = LatencyReport.write(settings.getResultDirectory(), settings, operations);
+			System.out.println("Sonuçlar: " + file.toAbsolutePath());
+		} catch (Exception e) {
+			log.error("Yük testi başarısız: {}", e.getMessage(), e);
+			exitCode = 1;
+		} finally {
+			SpringApplication.exit(context);
+		}
+		System.exit(exitCode);
+	}
+
+	private static Map<String, Object> defaults() {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("server.port", "0");
+		properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MSSQLServer;DB_CLOSE_DELAY=-1");
+		properties.put("spring.datasource.username", "sa");
+		properties.put("spring.datasource.password", "");
+		properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+		properties.put("spring.datasource.hikari.maximum-pool-size", "20");
+		// Migration'lar SQL Server'a özgü; şema testlerdeki gibi entity'lerden kurulur
+		properties.put("spring.flyway.enabled", "false");
+		properties.put("spring.jpa.hibernate.ddl-auto", "create");
+		properties.put("spring.jpa.properties.hibernate.jdbc.batch_size", "50");
+		properties.put("spring.jpa.properties.hibernate.order_inserts", "true");
+		properties.put("spring.jpa.open-in-view", "false");
+		properties.put("gorev.session.secret", "bG9hZC10ZXN0LW9ubHktc2VjcmV0LWRvLW5vdC11c2U=");
+		// Actuator ayrı portta açılmaz (application.properties'teki management.server.port ezilir)
+		properties.put("management.server.port", "-1");
+		properties.put("springdoc.api-docs.enabled", "false");
+		properties.put("logging.level.com.erdemirProje.gorevTakip", "WARN");
+		properties.put("logging.level.com.erdemirProje.gorevTakip.loadtest", "INFO");
+		return properties;
+	}
+}
@@ -0,0 +1,44 @@
+package com.erdemirProje.gorevTakip.loadtest;
+
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Yük testi ayarları; komut satırından --loadtest.* ile değiştirilir
+ * (ör. --loadtest.virtual-users=64 --loadtest.mix.USER_POLL=90)
+ */
+@Data
+public class LoadTestSettings {
+
+	// Sentetik organizasyon
+	private int directors = 2;
+	private int managersPerDirector = 10;
+	private int membersPerManager = 15;
+	private int tasksPerMember = 20;
+
+	// Yük
+	private int virtualUsers = 32;
+	private int warmupSeconds = 10;
+	private int durationSeconds = 60;
+	private long thinkTimeMillis = 0;
+
+	// İşlem ağırlıkları (toplamın 100 olması gerekmez)
+	private Map<Operation, Integer> mix = new LinkedHashMap<>(Map.of(
+		Operation.MANAGER_PANEL, 20,
+		Operation.USER_POLL, 70,
+		Operation.ASSIGN_TASK, 7,
+		Operation.REPORT_TO_DIRECTOR, 3
+	));
+
+	// Sonuç JSON'unun yazılacağı klasör
+	private String resultDirectory = "benchmarks/results";
+
+	public enum Operation {
+		MANAGER_PANEL,      // Müdür paneli açılışı: ekip, ekip görevleri, kendi görevleri, performans
+		USER_POLL,          // Ekip üyesinin otomatik yenilemesi (If-None-Match ile)
+		ASSIGN_TASK,        // Müdürün ekip üyesine görev ataması
+		REPORT_TO_DIRECTOR  // Tamamlanan görevlerin listelenip direktöre rapor edilmesi
+	}
+}
@@ -0,0 +1,133 @@
+package com.erdemirProje.gorevTakip.loadtest;
+
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
+import com.erdemirProje.gorevTakip.repository.UserRepository;
+import com.erdemirProje.gorevTakip.service.TaskTreeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Direktör -> müdür -> ekip üyesi -> görev yapısında sentetik veri üretir
+ * ApplicationRunner olarak açılışta çalışır; hiyerarşi ve arama index'leri ApplicationReadyEvent'te
+ * kurulduğu için üretilen veriyi kapsar.
+ */
+@Slf4j
+public class SyntheticOrgSeeder implements ApplicationRunner {
+
+	public static final String PASSWORD = "loadtest";
+
+	private static final int BATCH_SIZE = 1000;
+	private static final String[] PRIORITIES = {"HIGH", "MEDIUM", "LOW"};
+	// Görevlerin yaklaşık üçte biri tamamlanmış başlar (direktöre rapor için)
+	private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+
+	private final UserRepository userRepository;
+	private final GorevYapisiRepository gorevRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final LoadTestSettings settings;
+
+	private final List<Team> teams = new ArrayList<>();
+
+	public SyntheticOrgSeeder(UserRepository userRepository, GorevYapisiRepository gorevRepository,
+							  TransactionTemplate transactionTemplate, Environment environment) {
+		this.userRepository = userRepository;
+		this.gorevRepository = gorevRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.settings = Binder.get(environment).bindOrCreate("loadtest", LoadTestSettings.class);
+	}
+
+	/**
+	 * Müdür ve ekip üyelerinin id'leri
+	 */
+	public record Team(Long managerId, String managerUsername, List<Long> memberIds, List<String> memberUsernames) {
+	}
+
+	public LoadTestSettings getSettings() {
+		return settings;
+	}
+
+	public List<Team> getTeams() {
+		return teams;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		long start = System.currentTimeMillis();
+		Random random = new Random(42);
+		List<User> members = new ArrayList<>();
+
+		for (int d = 0; d < settings.getDirectors(); d++) {
+			User director = saveUsers(List.of(user("lt-d" + d, User.Role.DIRECTOR, null))).get(0);
+			List<User> managers = new ArrayList<>();
+			for (int m = 0; m < settings.getManagersPerDirector(); m++) {
+				managers.add(user("lt-d" + d + "-m" + m, User.Role.MANAGER, director));
+			}
+			for (User manager : saveUsers(managers)) {
+				List<User> team = new ArrayList<>();
+				for (int u = 0; u < settings.getMembersPerManager(); u++) {
+					team.add(user(manager.getUsername() + "-u" + u, User.Role.TEAM_MEMBER, manager));
+				}
+				List<User> savedTeam = saveUsers(team);
+				members.addAll(savedTeam);
+				teams.add(new Team(manager.getId(), manager.getUsername(),
+					savedTeam.stream().map(User::getId).toList(),
+					savedTeam.stream().map(User::getUsername).toList()));
+			}
+		}
+
+		List<GorevYapisi> batch = new ArrayList<>(BATCH_SIZE);
+		long taskCount = 0;
+		for (User member : members) {
+			for (int t = 0; t < settings.getTasksPerMember(); t++) {
+				GorevYapisi gorev = new GorevYapisi();
+				gorev.setIsim("Görev " + member.getUsername() + "-" + t);
+				gorev.setDescription("Sentetik yük testi görevi");
+				gorev.setUserid(member.getId());
+				gorev.setAssignedBy(member.getManager());
+				gorev.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+				gorev.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+				gorev.setReportedToDirector(false);
+				gorev.setTreePath(TaskTreeService.ROOT_PATH);
+				batch.add(gorev);
+				if (batch.size() == BATCH_SIZE) {
+					taskCount += saveTasks(batch);
+					batch = new ArrayList<>(BATCH_SIZE);
+				}
+			}
+		}
+		taskCount += saveTasks(batch);
+
+		log.info("Sentetik organizasyon hazır: {} müdür, {} ekip üyesi, {} görev ({} ms)",
+			teams.size(), members.size(), taskCount, System.currentTimeMillis() - start);
+	}
+
+	private List<User> saveUsers(List<User> users) {
+		return transactionTemplate.execute(status -> userRepository.saveAll(users));
+	}
+
+	private int saveTasks(List<GorevYapisi> tasks) {
+		transactionTemplate.executeWithoutResult(status -> gorevRepository.saveAll(tasks));
+		return tasks.size();
+	}
+
+	private static User user(String username, User.Role role, User manager) {
+		User user = new User();
+		user.setUsername(username);
+		user.setPassword(PASSWORD);
+		user.setEmail(username + "@loadtest.local");
+		user.setFullName(username);
+		user.setRole(role);
+		user.setManager(manager);
+		return user;
+	}
+}
@@ -0,0 +1,74 @@
+package com.erdemirProje.gorevTakip.config;
+
+import com.erdemirProje.gorevTakip.service.AuthService;
+import com.erdemirProje.gorevTakip.service.SessionTokenCodec;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authorization header'ındaki token'ı istek başına bir kez doğrular
+ * Geçerli token'ın kullanıcı özeti request attribute olarak saklanır ve controller'lara
+ * {@link CurrentUser} ile enjekte edilir. Token yoksa veya geçersizse istek burada reddedilmez;
+ * kullanıcı gerektiren endpoint'ler argüman çözümlenirken 401 döner.
+ *
+ * Tarayıcının EventSource API'si header gönderemediği için sadece SSE akışlarında token
+ * access_token query parametresi ile de kabul edilir.
+ *
+ * Doğrulanan kullanıcının id'si istek boyunca loglarda MDC "userId" olarak görünür.
+ *
+ * Boşta kalma süresinin yarısı geçmiş token'lar için yenilenmiş token X-Session-Token yanıt
+ * header'ında döner; istemci sonraki isteklerde onu kullanır (bkz. SessionTokenCodec.refresh).
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthenticationFilter extends OncePerRequestFilter {
+
+    // Annotation değerlerinde (@RequestAttribute) kullanılabilmesi için sabit ifade olarak tanımlı
+    public static final String PRINCIPAL_ATTRIBUTE = "com.erdemirProje.gorevTakip.config.AuthenticationFilter.PRINCIPAL";
+    public static final String TOKEN_ATTRIBUTE = "com.erdemirProje.gorevTakip.config.AuthenticationFilter.TOKEN";
+
+    public static final String USER_ID_MDC_KEY = "userId";
+    public static final String REFRESHED_TOKEN_HEADER = "X-Session-Token";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String STREAM_PATH_PREFIX = "/api/stream/";
+    private static final String TOKEN_PARAMETER = "access_token";
+
+    private final AuthService authService;
+    private final SessionTokenCodec tokenCodec;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if ((header == null || header.isBlank()) && request.getServletPath().startsWith(STREAM_PATH_PREFIX)) {
+            header = request.getParameter(TOKEN_PARAMETER);
+        }
+        if (header != null && !header.isBlank()) {
+            // "Bearer " prefix'ini kaldır (frontend'den böyle gelir)
+            String token = header.startsWith(BEARER_PREFIX) ? header.substring(BEARER_PREFIX.length()) : header;
+            request.setAttribute(TOKEN_ATTRIBUTE, token);
+            authService.getClaimsByToken(token)
+                .ifPresent(claims -> {
+                    request.setAttribute(PRINCIPAL_ATTRIBUTE, claims.principal());
+                    MDC.put(USER_ID_MDC_KEY, String.valueOf(claims.principal().getUserId()));
+                    tokenCodec.refresh(claims)
+                        .ifPresent(refreshed -> response.setHeader(REFRESHED_TOKEN_HEADER, refreshed));
+                });
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(USER_ID_MDC_KEY);
+        }
+    }
+}
@@ -39,7 +39,8 @@ public class CorsConfig implements WebMvcConfigurer {
                 )
                 .exposedHeaders(
                     "Access-Control-Allow-Origin", "Access-Control-Allow-Credentials",
-                    "Access-Control-Allow-Headers", "Access-Control-Allow-Methods"
+                    "Access-Control-Allow-Headers", "Access-Control-Allow-Methods",
+                    AuthenticationFilter.REFRESHED_TOKEN_HEADER // Yenilenmiş oturum token'ı
                 )
                 .allowCredentials(true) // Cookie ve Authorization header'larını destekle
                 .maxAge(3600); // Preflight request cache süresi (1 saat)
@@ -78,7 +79,8 @@ public class CorsConfig implements WebMvcConfigurer {
             "Access-Control-Allow-Headers",
             "Access-Control-Max-Age",
             "Access-Control-Request-Method",
-            "Access-Control-Request-Headers"
+            "Access-Control-Request-Headers",
+            AuthenticationFilter.REFRESHED_TOKEN_HEADER
         ));
         
         // Preflight cache süresi
@@ -0,0 +1,18 @@
+package com.erdemirProje.gorevTakip.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Controller parametresine isteği yapan kullanıcının özetini (SessionPrincipal) enjekte eder
+ * required=true iken geçerli token yoksa istek 401 ile reddedilir.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+    boolean required() default true;
+}
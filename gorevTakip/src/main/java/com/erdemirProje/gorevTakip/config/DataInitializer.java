@@ -5,12 +5,14 @@ import com.erdemirProje.gorevTakip.service.GorevService;
 import com.erdemirProje.gorevTakip.dto.GorevDto;
 import com.erdemirProje.gorevTakip.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @RequiredArgsConstructor
+@Slf4j
 public class DataInitializer {
     
     private final AuthService authService;
@@ -38,7 +40,7 @@ public class DataInitializer {
      */
     private void createDemoTasks() {
         // Demo görevler devre dışı - sıfırdan test için
-        System.out.println("ℹ️ Demo görevler oluşturma devre dışı bırakıldı - sıfırdan test için");
+        log.info("Demo görevler oluşturma devre dışı bırakıldı - sıfırdan test için");
         
         /*
         try {
@@ -48,7 +50,7 @@ public class DataInitializer {
             var teamMemberUser = userRepository.findByUsername("teammember");
             
             if (directorUser.isEmpty() || managerUser.isEmpty() || teamMemberUser.isEmpty()) {
-                System.out.println("⚠️ Hiyerarşik kullanıcılar bulunamadı, demo görevler oluşturulamıyor");
+                log.warn("Hiyerarşik kullanıcılar bulunamadı, demo görevler oluşturulamıyor");
                 return;
             }
             
@@ -74,11 +76,11 @@ public class DataInitializer {
             createTaskIfNotExists("Code Review", "Diğer ekip üyelerinin kodlarını gözden geçir", teamMemberId, "orta", "COMPLETED");
             createTaskIfNotExists("Dokümantasyon", "Geliştirilen özelliklerin dokümantasyonunu hazırla", teamMemberId, "düşük", "COMPLETED");
             
-            System.out.println("✅ Hiyerarşik demo görevler başarıyla oluşturuldu!");
-            System.out.println("📊 Direktör: 3 görev, Müdür: 4 görev, Ekip Üyesi: 5 görev");
+            log.info("Hiyerarşik demo görevler başarıyla oluşturuldu!");
+            log.info("Direktör: 3 görev, Müdür: 4 görev, Ekip Üyesi: 5 görev");
             
         } catch (Exception e) {
-            System.out.println("⚠️ Demo görevler oluşturulurken hata: " + e.getMessage());
+            log.error("Demo görevler oluşturulurken hata: {}", e.getMessage(), e);
         }
         */
     }
@@ -98,7 +100,7 @@ public class DataInitializer {
             gorevService.gorevEkle(gorevDto);
         } catch (Exception e) {
             // Görev zaten varsa veya hata olursa sessizce geç
-            System.out.println("Info: '" + isim + "' görevi oluşturulamadı (muhtemelen zaten mevcut)");
+            log.debug("'{}' görevi oluşturulamadı (muhtemelen zaten mevcut)", isim);
         }
     }
 }
\ No newline at end of file
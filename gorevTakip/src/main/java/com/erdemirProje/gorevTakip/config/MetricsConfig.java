@@ -0,0 +1,64 @@
+package com.erdemirProje.gorevTakip.config;
+
+import com.erdemirProje.gorevTakip.service.AuthService;
+import com.erdemirProje.gorevTakip.service.SessionStore;
+import com.erdemirProje.gorevTakip.service.SessionTokenCodec;
+import com.erdemirProje.gorevTakip.service.TaskEventBroker;
+import com.erdemirProje.gorevTakip.service.TaskSearchIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Uygulamaya özel metrikler (/actuator/prometheus)
+ * Endpoint gecikmeleri (http.server.requests), repository sorguları (spring.data.repository.invocations),
+ * HikariCP havuzu (hikaricp.*) ve Caffeine önbelleği (cache.*) Spring Boot tarafından otomatik ölçülür;
+ * yüzdelik ayarları application.properties'te (management.metrics.*).
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Oturum deposu boyutları ve token üretim / red sayıları
+     * Değerler her okumada depodan alınır, istek yolunda ek iş yapılmaz.
+     */
+    @Bean
+    public MeterBinder sessionMetrics(SessionStore sessionStore, SessionTokenCodec tokenCodec, AuthService authService) {
+        return registry -> {
+            Gauge.builder("gorev.session.store.revoked.tokens", sessionStore, SessionStore::getRevokedTokenCount)
+                .description("Geçersiz kılınmış, süresi dolmamış token sayısı")
+                .register(registry);
+            Gauge.builder("gorev.session.store.revoked.users", sessionStore, SessionStore::getRevokedUserCount)
+                .description("Tüm token'ları geçersiz kılınmış kullanıcı sayısı")
+                .register(registry);
+            FunctionCounter.builder("gorev.session.tokens.issued", tokenCodec, SessionTokenCodec::getIssuedTokens)
+                .register(registry);
+            FunctionCounter.builder("gorev.session.tokens.rejected", tokenCodec, SessionTokenCodec::getInvalidTokens)
+                .tag("reason", "invalid")
+                .register(registry);
+            FunctionCounter.builder("gorev.session.tokens.rejected", tokenCodec, SessionTokenCodec::getExpiredTokens)
+                .tag("reason", "expired")
+                .register(registry);
+            FunctionCounter.builder("gorev.session.tokens.rejected", authService, AuthService::getRejectedRevokedTokens)
+                .tag("reason", "revoked")
+                .register(registry);
+        };
+    }
+
+    /**
+     * Arama index'i ve SSE akışı boyutları
+     */
+    @Bean
+    public MeterBinder taskIndexMetrics(TaskSearchIndex searchIndex, TaskEventBroker taskEvents) {
+        return registry -> {
+            Gauge.builder("gorev.search.index.tasks", searchIndex, TaskSearchIndex::size)
+                .register(registry);
+            Gauge.builder("gorev.stream.subscriptions", taskEvents, TaskEventBroker::getSubscriptionCount)
+                .register(registry);
+            FunctionCounter.builder("gorev.stream.overflows", taskEvents, TaskEventBroker::getOverflowCount)
+                .register(registry);
+        };
+    }
+}
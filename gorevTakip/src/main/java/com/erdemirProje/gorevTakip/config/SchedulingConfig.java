@@ -0,0 +1,12 @@
+package com.erdemirProje.gorevTakip.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Arka plan görevleri (oturum temizliği vb.) için zamanlayıcıyı aktif eder
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
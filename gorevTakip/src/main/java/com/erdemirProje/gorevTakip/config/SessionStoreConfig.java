@@ -0,0 +1,54 @@
+package com.erdemirProje.gorevTakip.config;
+
+import com.erdemirProje.gorevTakip.repository.SessionRevocationRepository;
+import com.erdemirProje.gorevTakip.service.DatabaseSessionStore;
+import com.erdemirProje.gorevTakip.service.InMemorySessionStore;
+import com.erdemirProje.gorevTakip.service.MappedFileSessionStore;
+import com.erdemirProje.gorevTakip.service.SessionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Oturum deposu seçimi
+ * gorev.session.store=database (varsayılan), memory veya file
+ * memory ve file sadece tek uygulama örneği içindir: çıkış ve kullanıcı bazlı geçersiz kılmalar diğer
+ * örneklere ulaşmaz.
+ */
+@Configuration
+public class SessionStoreConfig {
+
+    /**
+     * Tüm uygulama örneklerinin paylaştığı depo; açılışta süresi dolmamış kayıtlar yüklenir
+     */
+    @Bean
+    @ConditionalOnProperty(name = "gorev.session.store", havingValue = "database", matchIfMissing = true)
+    public SessionStore databaseSessionStore(
+            SessionRevocationRepository repository,
+            @Value("${gorev.session.token-ttl-hours:12}") long ttlHours) {
+        DatabaseSessionStore store = new DatabaseSessionStore(repository, ttlHours * 60 * 60 * 1000L);
+        store.sync();
+        return store;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "gorev.session.store", havingValue = "memory")
+    public SessionStore inMemorySessionStore() {
+        return new InMemorySessionStore();
+    }
+
+    /**
+     * Yeniden başlatmalarda korunan dosya tabanlı depo (kapanışta close() ile diske yazılır)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "gorev.session.store", havingValue = "file")
+    public SessionStore mappedFileSessionStore(
+            @Value("${gorev.session.file.directory:./data/sessions}") String directory,
+            @Value("${gorev.session.file.capacity-bytes:4194304}") int capacityBytes) throws IOException {
+        return new MappedFileSessionStore(Path.of(directory), capacityBytes);
+    }
+}
@@ -1,27 +1,31 @@
 package com.erdemirProje.gorevTakip.controller;
 
+import com.erdemirProje.gorevTakip.dto.CacheStatsDto;
 import com.erdemirProje.gorevTakip.dto.GorevDto;
 import com.erdemirProje.gorevTakip.dto.RegisterRequest;
+import com.erdemirProje.gorevTakip.dto.SessionStatsDto;
 import com.erdemirProje.gorevTakip.dto.UserDto;
-import com.erdemirProje.gorevTakip.entity.GorevYapisi;
 import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
 import com.erdemirProje.gorevTakip.service.AuthService;
+import com.erdemirProje.gorevTakip.service.UserCacheService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "http://localhost:4200")
+@Slf4j
 public class AdminController {
 
     private final AuthService authService;
     private final GorevYapisiRepository gorevRepository;
+    private final UserCacheService userCache;
 
     /**
      * Yeni kullanıcı oluştur (Admin Only)
@@ -62,10 +66,9 @@ public class AdminController {
     @GetMapping("/users/{id}")
     public ResponseEntity<UserDto> getUserById(@PathVariable Long id) {
         try {
-            var user = authService.findById(id);
+            var user = authService.findUserDto(id);
             if (user.isPresent()) {
-                UserDto userDto = UserDto.fromEntity(user.get());
-                return ResponseEntity.ok(userDto);
+                return ResponseEntity.ok(user.get());
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
             }
@@ -163,21 +166,36 @@ public class AdminController {
         }
     }
     
+    /**
+     * Açık oturum sayısı ve kapatılma istatistikleri
+     * GET /api/admin/sessions/stats
+     */
+    @GetMapping("/sessions/stats")
+    public ResponseEntity<SessionStatsDto> getSessionStats() {
+        return ResponseEntity.ok(authService.getSessionStats());
+    }
+    
+    /**
+     * Kullanıcı önbelleği isabet / ıska / atılma istatistikleri
+     * GET /api/admin/cache/stats
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsDto> getCacheStats() {
+        return ResponseEntity.ok(userCache.getStats());
+    }
+    
     /**
      * Direktöre rapor edilen görevleri getir
      */
     @GetMapping("/reported-tasks")
     public ResponseEntity<List<GorevDto>> getReportedTasks() {
         try {
-            List<GorevYapisi> reportedTasks = gorevRepository.findReportedToDirector();
-            List<GorevDto> taskDtos = reportedTasks.stream()
-                    .map(GorevDto::fromEntity)
-                    .collect(Collectors.toList());
+            List<GorevDto> taskDtos = gorevRepository.findReportedToDirectorDtos();
             
-            System.out.println("📊 Direktör: " + taskDtos.size() + " rapor edilen görev getiriliyor");
+            log.debug("Direktör: {} rapor edilen görev getiriliyor", taskDtos.size());
             return ResponseEntity.ok(taskDtos);
         } catch (Exception e) {
-            System.out.println("❌ Rapor edilen görevler getirilirken hata: " + e.getMessage());
+            log.error("Rapor edilen görevler getirilirken hata: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().build();
         }
     }
@@ -1,20 +1,22 @@
 package com.erdemirProje.gorevTakip.controller;
 
+import com.erdemirProje.gorevTakip.config.AuthenticationFilter;
+import com.erdemirProje.gorevTakip.config.CurrentUser;
 import com.erdemirProje.gorevTakip.dto.*;
-import com.erdemirProje.gorevTakip.entity.User;
 import com.erdemirProje.gorevTakip.service.AuthService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "http://localhost:4200") // Angular frontend URL'i
+@Slf4j
 public class AuthController {
     
     private final AuthService authService;
@@ -27,20 +29,16 @@ public class AuthController {
     public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest loginRequest) {
         try {
             LoginResponse response = authService.login(loginRequest);
-            System.out.println("🔍 AuthController - Response: " + response);
-            System.out.println("🔍 AuthController - Token: " + response.getToken());
-            
             // Token varsa başarılı, yoksa hatalı
             if (response.getToken() != null) {
-                System.out.println("✅ AuthController - Token mevcut, 200 OK dönüyor");
                 return ResponseEntity.ok(response);
             } else {
-                System.out.println("❌ AuthController - Token yok, 401 dönüyor");
+                log.info("Başarısız giriş denemesi - kullanıcı: {}", loginRequest.getUsernameOrEmail());
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
             }
             
         } catch (Exception e) {
-            System.out.println("💥 AuthController - Exception: " + e.getMessage());
+            log.error("Giriş sırasında hata: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(new LoginResponse("Sistem hatası oluştu!"));
         }
@@ -72,12 +70,10 @@ public class AuthController {
      * POST /api/auth/logout
      */
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<String> logout(
+            @RequestAttribute(name = AuthenticationFilter.TOKEN_ATTRIBUTE, required = false) String token) {
         try {
-            // "Bearer " prefix'ini kaldır (frontend'den böyle gelecek)
-            String cleanToken = token.replace("Bearer ", "");
-            
-            boolean success = authService.logout(cleanToken);
+            boolean success = token != null && authService.logout(token);
             
             if (success) {
                 return ResponseEntity.ok("Çıkış başarılı");
@@ -96,18 +92,11 @@ public class AuthController {
      * GET /api/auth/me
      */
     @GetMapping("/me")
-    public ResponseEntity<UserDto> getCurrentUser(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<UserDto> getCurrentUser(@CurrentUser SessionPrincipal principal) {
         try {
-            String cleanToken = token.replace("Bearer ", "");
-            
-            Optional<User> userOptional = authService.getUserByToken(cleanToken);
-            
-            if (userOptional.isPresent()) {
-                UserDto userDto = UserDto.fromEntity(userOptional.get());
-                return ResponseEntity.ok(userDto);
-            } else {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-            }
+            return authService.findUserDto(principal.getUserId())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
             
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -119,16 +108,9 @@ public class AuthController {
      * GET /api/auth/validate
      */
     @GetMapping("/validate")
-    public ResponseEntity<Boolean> validateToken(@RequestHeader("Authorization") String token) {
-        try {
-            String cleanToken = token.replace("Bearer ", "");
-            boolean isValid = authService.isTokenValid(cleanToken);
-            
-            return ResponseEntity.ok(isValid);
-            
-        } catch (Exception e) {
-            return ResponseEntity.ok(false);
-        }
+    public ResponseEntity<Boolean> validateToken(@CurrentUser(required = false) SessionPrincipal principal) {
+        // Token AuthenticationFilter'da doğrulandı; geçerliyse principal dolu gelir
+        return ResponseEntity.ok(principal != null);
     }
     
     /**
@@ -136,16 +118,8 @@ public class AuthController {
      * GET /api/auth/is-admin
      */
     @GetMapping("/is-admin")
-    public ResponseEntity<Boolean> isAdmin(@RequestHeader("Authorization") String token) {
-        try {
-            String cleanToken = token.replace("Bearer ", "");
-            boolean isAdmin = authService.isAdmin(cleanToken);
-            
-            return ResponseEntity.ok(isAdmin);
-            
-        } catch (Exception e) {
-            return ResponseEntity.ok(false);
-        }
+    public ResponseEntity<Boolean> isAdmin(@CurrentUser(required = false) SessionPrincipal principal) {
+        return ResponseEntity.ok(principal != null && principal.isAdmin());
     }
     
     /**
@@ -153,12 +127,10 @@ public class AuthController {
      * GET /api/auth/users
      */
     @GetMapping("/users")
-    public ResponseEntity<List<UserDto>> getAllUsers(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<List<UserDto>> getAllUsers(@CurrentUser SessionPrincipal principal) {
         try {
-            String cleanToken = token.replace("Bearer ", "");
-            
             // Admin kontrolü
-            if (!authService.isAdmin(cleanToken)) {
+            if (!principal.isAdmin()) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
             
@@ -1,8 +1,11 @@
 package com.erdemirProje.gorevTakip.controller;
 
+import com.erdemirProje.gorevTakip.config.CurrentUser;
 import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
 import com.erdemirProje.gorevTakip.service.DirectorService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,7 +24,11 @@ public class DirectorController {
      * GET /api/director/tasks/{directorId}
      */
     @GetMapping("/tasks/{directorId}")
-    public ResponseEntity<List<GorevDto>> getDirectorTasks(@PathVariable Long directorId) {
+    public ResponseEntity<List<GorevDto>> getDirectorTasks(@PathVariable Long directorId,
+                                                           @CurrentUser SessionPrincipal principal) {
+        if (!principal.isDirector() || !principal.getUserId().equals(directorId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         List<GorevDto> tasks = directorService.getDirectorVisibleTasks(directorId);
         return ResponseEntity.ok(tasks);
     }
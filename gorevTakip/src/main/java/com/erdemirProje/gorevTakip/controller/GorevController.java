@@ -1,14 +1,35 @@
 package com.erdemirProje.gorevTakip.controller;
 
+import com.erdemirProje.gorevTakip.config.CurrentUser;
+import com.erdemirProje.gorevTakip.dto.BulkTaskResponse;
 import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.GorevPageResponse;
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
+import com.erdemirProje.gorevTakip.dto.TaskRollupDto;
+import com.erdemirProje.gorevTakip.dto.TaskSearchResponse;
+import com.erdemirProje.gorevTakip.dto.TaskTreeNodeDto;
 import com.erdemirProje.gorevTakip.service.GorevService;
+import com.erdemirProje.gorevTakip.service.TaskTreeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 @RestController
 @RequestMapping("/api/gorev")
@@ -19,14 +40,22 @@ import java.util.List;
 public class GorevController {
     
     private final GorevService gorevService;
+    private final TaskTreeService taskTreeService;
+    private final ObjectMapper objectMapper;
+    
+    // Akış sırasında kaç görevde bir çıktı istemciye gönderilsin
+    private static final int AKIS_FLUSH_ARALIGI = 500;
     
     /**
-     * Yeni görev ekleme endpoint'i
+     * Yeni görev ekleme endpoint'i (Direktör yetkisi)
      * POST /api/gorev/ekle
      */
     @PostMapping("/ekle")
-    public ResponseEntity<GorevDto> gorevEkle(@RequestBody GorevDto gorevDto) {
+    public ResponseEntity<GorevDto> gorevEkle(@RequestBody GorevDto gorevDto, @CurrentUser SessionPrincipal principal) {
         try {
+            if (!principal.isDirector()) {
+                return new ResponseEntity<>(null, HttpStatus.FORBIDDEN);
+            }
             GorevDto eklenenGorev = gorevService.gorevEkle(gorevDto);
             return new ResponseEntity<>(eklenenGorev, HttpStatus.CREATED);
         } catch (Exception e) {
@@ -35,12 +64,108 @@ public class GorevController {
     }
     
     /**
-     * Görev silme endpoint'i
+     * Toplu görev ekleme endpoint'i (JSON dizisi, Direktör yetkisi)
+     * POST /api/gorev/ekle-toplu
+     */
+    @PostMapping(value = "/ekle-toplu", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkTaskResponse> gorevleriTopluEkle(@RequestBody List<GorevDto> gorevler,
+                                                               @CurrentUser SessionPrincipal principal) {
+        try {
+            if (!principal.isDirector()) {
+                return new ResponseEntity<>(null, HttpStatus.FORBIDDEN);
+            }
+            BulkTaskResponse sonuc = gorevService.gorevleriTopluEkle(gorevler.iterator());
+            return new ResponseEntity<>(sonuc, topluEklemeDurumu(sonuc));
+        } catch (Exception e) {
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    /**
+     * Toplu görev ekleme endpoint'i (NDJSON - her satırda bir görev, Direktör yetkisi)
+     * POST /api/gorev/ekle-toplu  (Content-Type: application/x-ndjson)
+     * Gövde tamamı belleğe alınmadan satır satır okunur. Önceki parçalar commit edilmiş olabileceğinden
+     * hatalı satır isteği kesmez; o satır sonuçta reddedilmiş olarak döner (207).
+     */
+    @PostMapping(value = "/ekle-toplu", consumes = "application/x-ndjson")
+    public ResponseEntity<BulkTaskResponse> gorevleriTopluEkleNdjson(InputStream govde, @CurrentUser SessionPrincipal principal) {
+        if (!principal.isDirector()) {
+            return new ResponseEntity<>(null, HttpStatus.FORBIDDEN);
+        }
+        try (BufferedReader satirlar = new BufferedReader(new InputStreamReader(govde, StandardCharsets.UTF_8))) {
+            BulkTaskResponse sonuc = gorevService.gorevleriTopluEkle(new NdjsonGorevOkuyucu(satirlar, objectMapper));
+            return new ResponseEntity<>(sonuc, topluEklemeDurumu(sonuc));
+        } catch (Exception e) {
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    /**
+     * NDJSON gövdesini görev görev okur; boş satırlar atlanır
+     * Ayrıştırılamayan satırda IllegalArgumentException, gövde okunamazsa UncheckedIOException atar
+     * (GorevService.gorevleriTopluEkle bu ayrımla satırı reddeder ya da okumayı durdurur).
+     */
+    private static class NdjsonGorevOkuyucu implements Iterator<GorevDto> {
+        
+        private final BufferedReader satirlar;
+        private final ObjectMapper objectMapper;
+        private String siradakiSatir;
+        private int satirNo;
+        
+        NdjsonGorevOkuyucu(BufferedReader satirlar, ObjectMapper objectMapper) {
+            this.satirlar = satirlar;
+            this.objectMapper = objectMapper;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            try {
+                while (siradakiSatir == null) {
+                    String satir = satirlar.readLine();
+                    if (satir == null) {
+                        return false;
+                    }
+                    satirNo++;
+                    if (!satir.isBlank()) {
+                        siradakiSatir = satir;
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        @Override
+        public GorevDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String satir = siradakiSatir;
+            siradakiSatir = null;
+            try {
+                return objectMapper.readValue(satir, GorevDto.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Geçersiz JSON (satır " + satirNo + "): " + e.getOriginalMessage());
+            }
+        }
+    }
+    
+    // Hepsi eklendiyse 201, bir kısmı başarısızsa 207 (sonuçlar gövdede)
+    private HttpStatus topluEklemeDurumu(BulkTaskResponse sonuc) {
+        return sonuc.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+    }
+    
+    /**
+     * Görev silme endpoint'i (Direktör yetkisi; müdürler ekip görevlerini /api/manager üzerinden siler)
      * DELETE /api/gorev/sil/{id}
      */
     @DeleteMapping("/sil/{id}")
-    public ResponseEntity<String> gorevSil(@PathVariable Long id) {
+    public ResponseEntity<String> gorevSil(@PathVariable Long id, @CurrentUser SessionPrincipal principal) {
         try {
+            if (!principal.isDirector()) {
+                return new ResponseEntity<>("Bu işlem için yetkiniz yok", HttpStatus.FORBIDDEN);
+            }
             boolean silindi = gorevService.gorevSil(id);
             if (silindi) {
                 return new ResponseEntity<>("Görev başarıyla silindi", HttpStatus.OK);
@@ -53,12 +178,16 @@ public class GorevController {
     }
     
     /**
-     * Görev güncelleme endpoint'i
+     * Görev güncelleme endpoint'i (Direktör yetkisi; müdürler ekip görevlerini /api/manager üzerinden günceller)
      * PUT /api/gorev/guncelle/{id}
      */
     @PutMapping("/guncelle/{id}")
-    public ResponseEntity<GorevDto> gorevGuncelle(@PathVariable Long id, @RequestBody GorevDto gorevDto) {
+    public ResponseEntity<GorevDto> gorevGuncelle(@PathVariable Long id, @RequestBody GorevDto gorevDto,
+                                                  @CurrentUser SessionPrincipal principal) {
         try {
+            if (!principal.isDirector()) {
+                return new ResponseEntity<>(null, HttpStatus.FORBIDDEN);
+            }
             GorevDto guncellenenGorev = gorevService.gorevGuncelle(id, gorevDto);
             if (guncellenenGorev != null) {
                 return new ResponseEntity<>(guncellenenGorev, HttpStatus.OK);
@@ -71,16 +200,106 @@ public class GorevController {
     }
     
     /**
-     * Tüm görevleri listeleme endpoint'i (Admin yetkisi)
+     * Tüm görevleri listeleme endpoint'i (Direktör yetkisi)
      * GET /api/gorev/tumunu-getir
+     * Yanıt JSON dizisi olarak parça parça yazılır; tüm liste bellekte tutulmaz.
      */
     @GetMapping("/tumunu-getir")
-    public ResponseEntity<List<GorevDto>> tumGorevleriGetir() {
+    public ResponseEntity<StreamingResponseBody> tumGorevleriGetir(@CurrentUser SessionPrincipal principal) {
+        if (!principal.isDirector()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        StreamingResponseBody govde = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                int[] yazilan = {0};
+                generator.writeStartArray();
+                gorevService.tumGorevleriAkisla(gorev -> {
+                    try {
+                        generator.writeObject(gorev);
+                        if (++yazilan[0] % AKIS_FLUSH_ARALIGI == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(govde);
+    }
+    
+    /**
+     * Görevleri cursor tabanlı sayfalama ile listeleme endpoint'i (Direktör yetkisi)
+     * GET /api/gorev/sayfali?cursor={nextCursor}&size={size}
+     */
+    @GetMapping("/sayfali")
+    public ResponseEntity<GorevPageResponse> gorevleriSayfaliGetir(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @CurrentUser SessionPrincipal principal) {
+        try {
+            if (!principal.isDirector()) {
+                return new ResponseEntity<>(null, HttpStatus.FORBIDDEN);
+            }
+            GorevPageResponse sayfa = gorevService.gorevleriSayfaliGetir(cursor, size);
+            return new ResponseEntity<>(sayfa, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    /**
+     * Görev adı ve açıklamasında arama (puana göre sıralı, rol bazlı filtreli)
+     * GET /api/gorev/ara?q={kelimeler}&page={sayfa}&size={boyut}
+     */
+    @GetMapping("/ara")
+    public ResponseEntity<TaskSearchResponse> gorevAra(
+            @RequestParam("q") String sorgu,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @CurrentUser SessionPrincipal principal) {
+        try {
+            TaskSearchResponse sonuc = gorevService.gorevAra(sorgu, principal, page, size);
+            return new ResponseEntity<>(sonuc, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    /**
+     * Görev ve tüm alt görevleri (her derinlikte), her düğümde alt ağacın durum özeti ile
+     * GET /api/gorev/agac/{id}
+     */
+    @GetMapping("/agac/{id}")
+    public ResponseEntity<TaskTreeNodeDto> gorevAgaciGetir(@PathVariable Long id) {
         try {
-            List<GorevDto> gorevListesi = gorevService.tumGorevleriGetir();
-            return new ResponseEntity<>(gorevListesi, HttpStatus.OK);
+            TaskTreeNodeDto agac = taskTreeService.getTree(id);
+            if (agac == null) {
+                return new ResponseEntity<>(null, HttpStatus.NOT_FOUND);
+            }
+            return new ResponseEntity<>(agac, HttpStatus.OK);
         } catch (Exception e) {
-            return new ResponseEntity<>(List.of(), HttpStatus.INTERNAL_SERVER_ERROR);
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    /**
+     * Görevin alt ağacının tamamlanma özeti (alt görevler listelenmeden)
+     * GET /api/gorev/ilerleme/{id}
+     */
+    @GetMapping("/ilerleme/{id}")
+    public ResponseEntity<TaskRollupDto> gorevIlerlemesiGetir(@PathVariable Long id) {
+        try {
+            TaskRollupDto ilerleme = taskTreeService.getRollup(id);
+            if (ilerleme == null) {
+                return new ResponseEntity<>(null, HttpStatus.NOT_FOUND);
+            }
+            return new ResponseEntity<>(ilerleme, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package com.erdemirProje.gorevTakip.controller;
+
+import com.erdemirProje.gorevTakip.config.CurrentUser;
+import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
+import com.erdemirProje.gorevTakip.dto.UserDto;
+import com.erdemirProje.gorevTakip.service.UserHierarchyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/hierarchy")
+@CrossOrigin(origins = "http://localhost:4200")
+@RequiredArgsConstructor
+public class HierarchyController {
+
+    private final UserHierarchyService userHierarchyService;
+
+    /**
+     * Kullanıcının altındaki tüm kullanıcılar (her derinlikte)
+     * GET /api/hierarchy/{userId}/descendants
+     */
+    @GetMapping("/{userId}/descendants")
+    public ResponseEntity<List<UserDto>> getDescendants(@PathVariable Long userId, @CurrentUser SessionPrincipal principal) {
+        if (!canRead(principal, userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(userHierarchyService.getDescendants(userId));
+    }
+
+    /**
+     * Kullanıcının altındaki tüm organizasyonun görevleri
+     * GET /api/hierarchy/{userId}/tasks
+     */
+    @GetMapping("/{userId}/tasks")
+    public ResponseEntity<List<GorevDto>> getOrgTasks(@PathVariable Long userId, @CurrentUser SessionPrincipal principal) {
+        if (!canRead(principal, userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(userHierarchyService.getOrgTasks(userId));
+    }
+
+    /**
+     * Kullanıcı kendi organizasyonunu, direktör herkesinkini görebilir
+     */
+    private boolean canRead(SessionPrincipal principal, Long userId) {
+        return principal.getUserId().equals(userId) || principal.isDirector();
+    }
+}
@@ -1,11 +1,20 @@
 package com.erdemirProje.gorevTakip.controller;
 
+import com.erdemirProje.gorevTakip.config.CurrentUser;
 import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.ReportResultDto;
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
+import com.erdemirProje.gorevTakip.dto.TeamPerformanceDto;
 import com.erdemirProje.gorevTakip.dto.UserDto;
 import com.erdemirProje.gorevTakip.service.ManagerService;
+import com.erdemirProje.gorevTakip.service.TaskVersionStamps;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -14,34 +23,51 @@ import java.util.Map;
 @RequestMapping("/api/manager")
 @CrossOrigin(origins = "http://localhost:4200")
 @RequiredArgsConstructor
+@Slf4j
 public class ManagerController {
     
+    // Tarayıcı cevabı saklayabilir ama her kullanımda ETag ile doğrulatmalı
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
     private final ManagerService managerService;
+    private final TaskVersionStamps taskVersions;
     
     /**
      * Müdürün kendi ekip üyelerini getir
      */
     @GetMapping("/team-members/{managerId}")
-    public ResponseEntity<List<UserDto>> getTeamMembers(@PathVariable Long managerId) {
+    public ResponseEntity<List<UserDto>> getTeamMembers(@PathVariable Long managerId, @CurrentUser SessionPrincipal principal) {
         try {
+            if (!isOwnManagerId(principal, managerId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
             List<UserDto> teamMembers = managerService.getTeamMembers(managerId);
             return ResponseEntity.ok(teamMembers);
         } catch (Exception e) {
-            System.out.println("❌ Ekip üyeleri getirilirken hata: " + e.getMessage());
+            log.error("Ekip üyeleri getirilirken hata: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().build();
         }
     }
     
     /**
      * Müdürün kendi ekibindeki görevleri getir
+     * Görevler değişmediyse (If-None-Match) sorgu çalıştırılmadan 304 döner
      */
     @GetMapping("/team-tasks/{managerId}")
-    public ResponseEntity<List<GorevDto>> getTeamTasks(@PathVariable Long managerId) {
+    public ResponseEntity<List<GorevDto>> getTeamTasks(@PathVariable Long managerId, @CurrentUser SessionPrincipal principal,
+                                                       WebRequest webRequest) {
         try {
+            if (!isOwnManagerId(principal, managerId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            String etag = taskVersions.managerTeamTag(managerId);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+            }
             List<GorevDto> tasks = managerService.getTeamTasks(managerId);
-            return ResponseEntity.ok(tasks);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(tasks);
         } catch (Exception e) {
-            System.out.println("❌ Ekip görevleri getirilirken hata: " + e.getMessage());
+            log.error("Ekip görevleri getirilirken hata: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().build();
         }
     }
@@ -50,9 +76,16 @@ public class ManagerController {
      * Müdür ekip üyesine görev atar
      */
     @PostMapping("/assign-task")
-    public ResponseEntity<Map<String, Object>> assignTask(@RequestBody GorevDto gorevDto) {
+    public ResponseEntity<Map<String, Object>> assignTask(@RequestBody GorevDto gorevDto,
+                                                          @CurrentUser SessionPrincipal principal) {
         try {
-            GorevDto createdTask = managerService.assignTaskToTeamMember(gorevDto);
+            if (!principal.isManager()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
+                    "success", false,
+                    "message", "Bu işlem için yetkiniz yok"
+                ));
+            }
+            GorevDto createdTask = managerService.assignTaskToTeamMember(principal.getUserId(), gorevDto);
             if (createdTask != null) {
                 return ResponseEntity.ok(Map.of(
                     "success", true,
@@ -66,7 +99,7 @@ public class ManagerController {
                 ));
             }
         } catch (Exception e) {
-            System.out.println("❌ Görev atanırken hata: " + e.getMessage());
+            log.error("Görev atanırken hata: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().body(Map.of(
                 "success", false,
                 "message", "Görev atanırken hata oluştu: " + e.getMessage()
@@ -76,14 +109,23 @@ public class ManagerController {
     
     /**
      * Müdürün kendi görevlerini getir
+     * Görevler değişmediyse (If-None-Match) sorgu çalıştırılmadan 304 döner
      */
     @GetMapping("/my-tasks/{managerId}")
-    public ResponseEntity<List<GorevDto>> getManagerTasks(@PathVariable Long managerId) {
+    public ResponseEntity<List<GorevDto>> getManagerTasks(@PathVariable Long managerId, @CurrentUser SessionPrincipal principal,
+                                                          WebRequest webRequest) {
         try {
+            if (!isOwnManagerId(principal, managerId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            String etag = taskVersions.managerTasksTag(managerId);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+            }
             List<GorevDto> tasks = managerService.getManagerTasks(managerId);
-            return ResponseEntity.ok(tasks);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(tasks);
         } catch (Exception e) {
-            System.out.println("❌ Müdür görevleri getirilirken hata: " + e.getMessage());
+            log.error("Müdür görevleri getirilirken hata: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().build();
         }
     }
@@ -92,12 +134,18 @@ public class ManagerController {
      * Müdürün ekip üyesi performans özeti
      */
     @GetMapping("/team-performance/{managerId}")
-    public ResponseEntity<Map<String, Object>> getTeamPerformance(@PathVariable Long managerId) {
+    public ResponseEntity<TeamPerformanceDto> getTeamPerformance(@PathVariable Long managerId, @CurrentUser SessionPrincipal principal) {
         try {
-            Map<String, Object> performance = managerService.getTeamPerformance(managerId);
+            if (!isOwnManagerId(principal, managerId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            TeamPerformanceDto performance = managerService.getTeamPerformance(managerId);
+            if (performance == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
             return ResponseEntity.ok(performance);
         } catch (Exception e) {
-            System.out.println("❌ Ekip performansı getirilirken hata: " + e.getMessage());
+            log.error("Ekip performansı getirilirken hata: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().build();
         }
     }
@@ -106,9 +154,16 @@ public class ManagerController {
      * Müdür görev günceller
      */
     @PutMapping("/update-task/{taskId}")
-    public ResponseEntity<Map<String, Object>> updateTask(@PathVariable Long taskId, @RequestBody GorevDto gorevDto) {
+    public ResponseEntity<Map<String, Object>> updateTask(@PathVariable Long taskId, @RequestBody GorevDto gorevDto,
+                                                          @CurrentUser SessionPrincipal principal) {
         try {
-            GorevDto updatedTask = managerService.updateTeamTask(taskId, gorevDto);
+            if (!principal.isManager()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
+                    "success", false,
+                    "message", "Bu işlem için yetkiniz yok"
+                ));
+            }
+            GorevDto updatedTask = managerService.updateTeamTask(principal.getUserId(), taskId, gorevDto);
             if (updatedTask != null) {
                 return ResponseEntity.ok(Map.of(
                     "success", true,
@@ -122,7 +177,7 @@ public class ManagerController {
                 ));
             }
         } catch (Exception e) {
-            System.out.println("❌ Görev güncellenirken hata: " + e.getMessage());
+            log.error("Görev güncellenirken hata: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().body(Map.of(
                 "success", false,
                 "message", "Görev güncellenirken hata oluştu: " + e.getMessage()
@@ -134,35 +189,42 @@ public class ManagerController {
      * Müdür görev siler
      */
     @DeleteMapping("/delete-task/{taskId}")
-    public ResponseEntity<Map<String, Object>> deleteTask(@PathVariable Long taskId) {
+    public ResponseEntity<Map<String, Object>> deleteTask(@PathVariable Long taskId,
+                                                          @CurrentUser SessionPrincipal principal) {
         try {
-            System.out.println("🗑️ Controller: Görev silme isteği - Task ID: " + taskId);
+            if (!principal.isManager()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
+                    "success", false,
+                    "message", "Bu işlem için yetkiniz yok"
+                ));
+            }
+
+            log.debug("Controller: Görev silme isteği - Task ID: {}", taskId);
             
             if (taskId == null) {
-                System.out.println("❌ Controller: Task ID null!");
+                log.warn("Controller: Task ID null!");
                 return ResponseEntity.badRequest().body(Map.of(
                     "success", false,
                     "message", "Görev ID boş olamaz"
                 ));
             }
             
-            boolean deleted = managerService.deleteTeamTask(taskId);
+            boolean deleted = managerService.deleteTeamTask(principal.getUserId(), taskId);
             if (deleted) {
-                System.out.println("✅ Controller: Görev başarıyla silindi");
+                log.debug("Controller: Görev başarıyla silindi");
                 return ResponseEntity.ok(Map.of(
                     "success", true,
                     "message", "Görev başarıyla silindi"
                 ));
             } else {
-                System.out.println("❌ Controller: Görev silinemedi");
+                log.warn("Controller: Görev silinemedi");
                 return ResponseEntity.badRequest().body(Map.of(
                     "success", false,
                     "message", "Görev silinemedi - ID: " + taskId + " bulunamadı veya silinemedi"
                 ));
             }
         } catch (Exception e) {
-            System.out.println("❌ Controller: Görev silinirken hata: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Controller: Görev silinirken hata: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().body(Map.of(
                 "success", false,
                 "message", "Görev silinirken hata oluştu: " + e.getMessage()
@@ -176,12 +238,15 @@ public class ManagerController {
      * Müdürün tamamlanan görevlerini getir
      */
     @GetMapping("/completed-tasks/{managerId}")
-    public ResponseEntity<List<GorevDto>> getCompletedTasks(@PathVariable Long managerId) {
+    public ResponseEntity<List<GorevDto>> getCompletedTasks(@PathVariable Long managerId, @CurrentUser SessionPrincipal principal) {
         try {
+            if (!isOwnManagerId(principal, managerId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
             List<GorevDto> completedTasks = managerService.getCompletedTasks(managerId);
             return ResponseEntity.ok(completedTasks);
         } catch (Exception e) {
-            System.out.println("❌ Tamamlanan görevler getirilirken hata: " + e.getMessage());
+            log.error("Tamamlanan görevler getirilirken hata: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().build();
         }
     }
@@ -194,8 +259,15 @@ public class ManagerController {
     @PostMapping("/report-to-director/{managerId}")
     public ResponseEntity<Map<String, Object>> reportTasksToDirector(
             @PathVariable Long managerId,
-            @RequestBody Map<String, List<Long>> request) {
+            @RequestBody Map<String, List<Long>> request,
+            @CurrentUser SessionPrincipal principal) {
         try {
+            if (!isOwnManagerId(principal, managerId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
+                        "success", false,
+                        "message", "Bu işlem için yetkiniz yok"
+                ));
+            }
             List<Long> taskIds = request.get("taskIds");
             if (taskIds == null || taskIds.isEmpty()) {
                 return ResponseEntity.badRequest().body(Map.of(
@@ -204,12 +276,14 @@ public class ManagerController {
                 ));
             }
 
-            boolean success = managerService.reportTasksToDirector(managerId, taskIds);
-            if (success) {
+            ReportResultDto result = managerService.reportTasksToDirector(managerId, taskIds);
+            if (result != null) {
                 return ResponseEntity.ok(Map.of(
                         "success", true,
                         "message", "Görevler başarıyla direktöre rapor edildi",
-                        "reportedCount", taskIds.size()
+                        "reportedCount", result.getReportedTaskIds().size(),
+                        "reportedTaskIds", result.getReportedTaskIds(),
+                        "rejectedTaskIds", result.getRejectedTaskIds()
                 ));
             } else {
                 return ResponseEntity.badRequest().body(Map.of(
@@ -218,11 +292,18 @@ public class ManagerController {
                 ));
             }
         } catch (Exception e) {
-            System.out.println("❌ Rapor gönderilirken hata: " + e.getMessage());
+            log.error("Rapor gönderilirken hata: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().body(Map.of(
                     "success", false,
                     "message", "Rapor gönderilirken hata oluştu: " + e.getMessage()
             ));
         }
     }
+    
+    /**
+     * Path'teki müdür id'si isteği yapan müdürün kendisi mi? (path id'lerine tek başına güvenilmez)
+     */
+    private boolean isOwnManagerId(SessionPrincipal principal, Long managerId) {
+        return principal.isManager() && principal.getUserId().equals(managerId);
+    }
 }
@@ -0,0 +1,36 @@
+package com.erdemirProje.gorevTakip.controller;
+
+import com.erdemirProje.gorevTakip.config.CurrentUser;
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
+import com.erdemirProje.gorevTakip.service.TaskEventBroker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/stream")
+@CrossOrigin(origins = "http://localhost:4200")
+@RequiredArgsConstructor
+public class StreamController {
+
+    private final TaskEventBroker taskEventBroker;
+
+    /**
+     * Oturumdaki kullanıcının görev değişiklik akışı (Server-Sent Events)
+     * GET /api/stream/tasks
+     * Olaylar: task-created, task-updated, task-deleted, status-changed, reported, resync
+     * EventSource header gönderemediği için token ?access_token= ile de verilebilir
+     */
+    @GetMapping(value = "/tasks", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamTasks(@CurrentUser SessionPrincipal principal) {
+        SseEmitter emitter = taskEventBroker.subscribe(principal);
+        if (emitter == null) {
+            // Bağlantı sınırı aşıldı; istemci periyodik yenilemeye döner
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
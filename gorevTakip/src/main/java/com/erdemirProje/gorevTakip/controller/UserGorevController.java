@@ -1,11 +1,16 @@
 package com.erdemirProje.gorevTakip.controller;
 
+import com.erdemirProje.gorevTakip.config.CurrentUser;
 import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
+import com.erdemirProje.gorevTakip.service.TaskVersionStamps;
 import com.erdemirProje.gorevTakip.service.UserGorevService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,17 +20,30 @@ import java.util.List;
 @CrossOrigin(origins = "http://localhost:4200") // Angular frontend URL'i
 public class UserGorevController {
     
+    // Tarayıcı cevabı saklayabilir ama her kullanımda ETag ile doğrulatmalı
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
     private final UserGorevService userGorevService;
+    private final TaskVersionStamps taskVersions;
     
     /**
      * Kullanıcının tüm görevlerini öncelik sırasına göre getir
      * GET /api/user/gorev/{userid}
+     * Görevler değişmediyse (If-None-Match) sorgu çalıştırılmadan 304 döner
      */
     @GetMapping("/{userid}")
-    public ResponseEntity<List<GorevDto>> getUserTasks(@PathVariable Long userid) {
+    public ResponseEntity<List<GorevDto>> getUserTasks(@PathVariable Long userid, @CurrentUser SessionPrincipal principal,
+                                                       WebRequest webRequest) {
         try {
+            if (!canRead(principal, userid)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            String etag = taskVersions.userTag(userid);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+            }
             List<GorevDto> gorevler = userGorevService.getUserTasksOrderedByPriority(userid);
-            return ResponseEntity.ok(gorevler);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(gorevler);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -36,8 +54,11 @@ public class UserGorevController {
      * GET /api/user/gorev/{userid}/active
      */
     @GetMapping("/{userid}/active")
-    public ResponseEntity<List<GorevDto>> getUserActiveTasks(@PathVariable Long userid) {
+    public ResponseEntity<List<GorevDto>> getUserActiveTasks(@PathVariable Long userid, @CurrentUser SessionPrincipal principal) {
         try {
+            if (!canRead(principal, userid)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
             List<GorevDto> gorevler = userGorevService.getUserActiveTasksOrderedByPriority(userid);
             return ResponseEntity.ok(gorevler);
         } catch (Exception e) {
@@ -52,8 +73,12 @@ public class UserGorevController {
     @GetMapping("/{userid}/status/{status}")
     public ResponseEntity<List<GorevDto>> getUserTasksByStatus(
             @PathVariable Long userid, 
-            @PathVariable String status) {
+            @PathVariable String status,
+            @CurrentUser SessionPrincipal principal) {
         try {
+            if (!canRead(principal, userid)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
             List<GorevDto> gorevler = userGorevService.getUserTasksByStatus(userid, status);
             return ResponseEntity.ok(gorevler);
         } catch (Exception e) {
@@ -68,8 +93,12 @@ public class UserGorevController {
     @PutMapping("/{gorevId}/complete/{userid}")
     public ResponseEntity<String> markTaskAsCompleted(
             @PathVariable Long gorevId, 
-            @PathVariable Long userid) {
+            @PathVariable Long userid,
+            @CurrentUser SessionPrincipal principal) {
         try {
+            if (!principal.getUserId().equals(userid)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Görev bulunamadı veya yetkiniz yok!");
+            }
             boolean success = userGorevService.markTaskAsCompleted(gorevId, userid);
             
             if (success) {
@@ -92,8 +121,12 @@ public class UserGorevController {
     public ResponseEntity<String> updateTaskStatus(
             @PathVariable Long gorevId,
             @PathVariable Long userid,
-            @RequestBody StatusUpdateRequest request) {
+            @RequestBody StatusUpdateRequest request,
+            @CurrentUser SessionPrincipal principal) {
         try {
+            if (!principal.getUserId().equals(userid)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Görev bulunamadı veya yetkiniz yok!");
+            }
             boolean success = userGorevService.updateTaskStatus(gorevId, userid, request.getStatus());
             
             if (success) {
@@ -111,17 +144,34 @@ public class UserGorevController {
     /**
      * Kullanıcının görev istatistiklerini getir
      * GET /api/user/gorev/{userid}/stats
+     * Görevler değişmediyse (If-None-Match) hesaplama yapılmadan 304 döner
      */
     @GetMapping("/{userid}/stats")
-    public ResponseEntity<UserGorevService.UserTaskStats> getUserTaskStats(@PathVariable Long userid) {
+    public ResponseEntity<UserGorevService.UserTaskStats> getUserTaskStats(@PathVariable Long userid,
+                                                                          @CurrentUser SessionPrincipal principal,
+                                                                          WebRequest webRequest) {
         try {
+            if (!canRead(principal, userid)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            String etag = taskVersions.userTag(userid);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+            }
             UserGorevService.UserTaskStats stats = userGorevService.getUserTaskStats(userid);
-            return ResponseEntity.ok(stats);
+            return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(stats);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
     
+    /**
+     * Kullanıcı kendi görevlerini, direktör herkesin görevlerini görebilir
+     */
+    private boolean canRead(SessionPrincipal principal, Long userid) {
+        return principal.getUserId().equals(userid) || principal.isDirector();
+    }
+    
     /**
      * Status güncelleme için request body sınıfı
      */
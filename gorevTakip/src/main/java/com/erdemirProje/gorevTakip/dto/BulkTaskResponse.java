@@ -0,0 +1,35 @@
+package com.erdemirProje.gorevTakip.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResponse {
+    private int total;
+    private int created;
+    private int failed;
+    private List<ItemResult> results; // İstekteki sırayla her görevin sonucu
+    
+    public static BulkTaskResponse of(List<ItemResult> results) {
+        int created = (int) results.stream().filter(ItemResult::isSuccess).count();
+        return new BulkTaskResponse(results.size(), created, results.size() - created, results);
+    }
+    
+    /**
+     * Tek bir görevin toplu ekleme sonucu
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;       // İstekteki sıra (0'dan başlar)
+        private boolean success;
+        private Long gorevid;    // Başarılıysa oluşan görevin id'si
+        private String message;  // Başarısızsa hata nedeni
+    }
+}
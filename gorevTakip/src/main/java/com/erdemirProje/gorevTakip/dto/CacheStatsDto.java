@@ -0,0 +1,17 @@
+package com.erdemirProje.gorevTakip.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDto {
+    private String cacheName;
+    private long size;          // Yaklaşık kayıt sayısı
+    private long hitCount;
+    private long missCount;
+    private double hitRate;     // 0-1 arası
+    private long evictionCount; // Kapasite / süre nedeniyle atılan kayıtlar
+}
@@ -0,0 +1,16 @@
+package com.erdemirProje.gorevTakip.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GorevPageResponse {
+    private List<GorevDto> items;
+    private Long nextCursor; // Sonraki sayfa için gönderilecek cursor (son görevin id'si)
+    private boolean hasNext; // Devamında görev var mı?
+}
@@ -0,0 +1,15 @@
+package com.erdemirProje.gorevTakip.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportResultDto {
+    private List<Long> reportedTaskIds; // Direktöre rapor edilen görevler
+    private List<Long> rejectedTaskIds; // Bulunamayan veya rapor kriterlerini sağlamayan görevler
+}
@@ -0,0 +1,35 @@
+package com.erdemirProje.gorevTakip.dto;
+
+import com.erdemirProje.gorevTakip.entity.User;
+import lombok.Value;
+
+/**
+ * Oturumda tutulan kullanıcı özeti (entity yerine, değiştirilemez)
+ */
+@Value
+public class SessionPrincipal {
+    Long userId;
+    User.Role role;
+    Long managerId; // Ekip üyesinin müdürü (yoksa null)
+    
+    public static SessionPrincipal fromEntity(User user) {
+        return new SessionPrincipal(
+            user.getId(),
+            user.getRole(),
+            user.getManager() != null ? user.getManager().getId() : null
+        );
+    }
+    
+    public boolean isDirector() {
+        return User.Role.DIRECTOR.equals(role);
+    }
+    
+    public boolean isManager() {
+        return User.Role.MANAGER.equals(role);
+    }
+    
+    // Backward compatibility (geçici)
+    public boolean isAdmin() {
+        return isDirector();
+    }
+}
@@ -0,0 +1,17 @@
+package com.erdemirProje.gorevTakip.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionStatsDto {
+    private long issuedTokens;        // Uygulama açıldığından beri üretilen token'lar
+    private long invalidTokens;       // İmzası veya biçimi bozuk olduğu için reddedilenler
+    private long expiredTokens;       // Süresi dolduğu için reddedilenler
+    private long rejectedRevoked;     // Çıkış yapılmış / geçersiz kılınmış olduğu için reddedilenler
+    private long revokedTokenEntries; // Geçersiz kılınmış token listesinin şu anki boyutu
+    private long revokedUserEntries;  // Tüm token'ları geçersiz kılınmış kullanıcı sayısı
+}
@@ -0,0 +1,45 @@
+package com.erdemirProje.gorevTakip.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Görev değişiklik akışında (SSE) gönderilen olay
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEventDto {
+    private Type type;
+    private Long gorevid;
+    private Long userid; // Görevin sahibi
+    private Long assignedById; // Görevi atayan müdür / direktör
+    private String status;
+    private List<Long> gorevIds; // Sadece REPORTED: rapor edilen görevler
+    private long timestamp;
+
+    /**
+     * Olay türleri; SSE "event" alanında küçük harfli adları kullanılır
+     */
+    public enum Type {
+        TASK_CREATED("task-created"),
+        TASK_UPDATED("task-updated"),
+        TASK_DELETED("task-deleted"),
+        STATUS_CHANGED("status-changed"),
+        REPORTED("reported"),
+        RESYNC("resync"); // Kuyruk taştı, olaylar atlandı: istemci listeyi baştan yüklemeli
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String getEventName() {
+            return eventName;
+        }
+    }
+}
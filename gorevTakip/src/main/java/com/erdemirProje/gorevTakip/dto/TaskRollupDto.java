@@ -0,0 +1,29 @@
+package com.erdemirProje.gorevTakip.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Bir görevin alt ağacının (görev dahil) tamamlanma özeti
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskRollupDto {
+    private Map<String, Long> statusCounts; // Durum -> görev sayısı
+    private long totalTasks;
+    private long completedTasks;
+    private double completionRate; // Yüzde olarak tamamlanma oranı
+
+    public static TaskRollupDto of(Map<String, Long> statusCounts) {
+        long total = 0;
+        for (long count : statusCounts.values()) {
+            total += count;
+        }
+        long completed = statusCounts.getOrDefault("COMPLETED", 0L);
+        return new TaskRollupDto(statusCounts, total, completed, total == 0 ? 0 : (completed * 100.0 / total));
+    }
+}
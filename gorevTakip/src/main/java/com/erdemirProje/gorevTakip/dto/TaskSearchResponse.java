@@ -0,0 +1,18 @@
+package com.erdemirProje.gorevTakip.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResponse {
+    private List<GorevDto> items; // Puana göre sıralı
+    private long total;           // Kullanıcının görebildiği toplam eşleşme
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
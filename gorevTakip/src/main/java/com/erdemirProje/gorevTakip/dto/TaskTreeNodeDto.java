@@ -0,0 +1,20 @@
+package com.erdemirProje.gorevTakip.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Görev ağacında tek düğüm: görev, alt ağacının özeti ve child görevleri
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTreeNodeDto {
+    private GorevDto task;
+    private TaskRollupDto rollup;
+    private List<TaskTreeNodeDto> children = new ArrayList<>();
+}
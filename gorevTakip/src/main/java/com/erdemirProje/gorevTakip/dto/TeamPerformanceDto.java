@@ -0,0 +1,22 @@
+package com.erdemirProje.gorevTakip.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamPerformanceDto {
+    private long totalTeamMembers;
+    private long totalTasks;
+    private long completedTasks;
+    private long inProgressTasks;
+    private long pendingTasks;
+    private double completionRate; // Yüzde olarak tamamlanma oranı
+    
+    // Boş özet (müdür bulunamadığında veya hata durumunda)
+    public static TeamPerformanceDto empty() {
+        return new TeamPerformanceDto(0, 0, 0, 0, 0, 0);
+    }
+}
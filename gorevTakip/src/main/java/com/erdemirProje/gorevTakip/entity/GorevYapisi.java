@@ -3,12 +3,30 @@ package com.erdemirProje.gorevTakip.entity;
 import jakarta.persistence.*;
 import lombok.Data;
 
+import java.util.Locale;
+
 @Entity
 @Data
+@Table(indexes = {
+    // Kullanıcının öncelik sıralı görev listesi
+    @Index(name = "ix_gorev_user_priority", columnList = "userid, priority_rank, gorevid"),
+    // Kullanıcının belirli durumdaki görevleri, öncelik sıralı
+    @Index(name = "ix_gorev_user_status_priority", columnList = "userid, status, priority_rank, gorevid"),
+    // Müdürün atadığı görevler
+    @Index(name = "ix_gorev_assigned_by", columnList = "assigned_by_id, gorevid"),
+    // Direktör görünümü (üst görevler) ve alt görevler
+    @Index(name = "ix_gorev_parent_task", columnList = "parent_task_id, gorevid"),
+    // Direktöre rapor edilen görevler
+    @Index(name = "ix_gorev_reported", columnList = "reported_to_director, gorevid"),
+    // Alt ağaç okumaları (tree_path önek araması)
+    @Index(name = "ix_gorev_tree_path", columnList = "tree_path, gorevid")
+})
 public class GorevYapisi {
     
+    // Sequence (pooled) ile id üretimi: IDENTITY'nin aksine toplu eklemede JDBC insert batching'i kapatmaz
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "gorev_yapisi_seq")
+    @SequenceGenerator(name = "gorev_yapisi_seq", sequenceName = "gorev_yapisi_seq", allocationSize = 50)
     private Long gorevid;
     
     private String isim;
@@ -20,6 +38,11 @@ public class GorevYapisi {
     private User user;
     
     private String priority;
+    
+    // Sıralama için normalize edilmiş öncelik (1 = yüksek ... 4 = belirsiz), priority set edilirken hesaplanır
+    @Column(name = "priority_rank")
+    private Integer priorityRank;
+    
     private String status; // "PENDING", "IN_PROGRESS", "COMPLETED", "ARCHIVED"
     
     @Column(name = "reported_to_director", columnDefinition = "bit default 0")
@@ -34,6 +57,22 @@ public class GorevYapisi {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_task_id", referencedColumnName = "gorevid")
     private GorevYapisi parentTask;
+
+    // Materialized path: üst görevlerin id'leri kökten başlayarak ("/" kök görev, "/12/45/" 45'in child'ı)
+    // Görev oluşturulurken TaskTreeService tarafından atanır, üst görev değişmediği için sonradan güncellenmez
+    @Column(name = "tree_path", length = 450)
+    private String treePath;
+    
+    public void setPriority(String priority) {
+        this.priority = priority;
+        this.priorityRank = Priority.fromValue(priority).getRank();
+    }
+    
+    @PrePersist
+    @PreUpdate
+    private void syncPriorityRank() {
+        this.priorityRank = Priority.fromValue(priority).getRank();
+    }
     
     // Backward compatibility için userid getter/setter
     public Long getUserid() {
@@ -49,4 +88,41 @@ public class GorevYapisi {
             this.user = null;
         }
     }
+    
+    /**
+     * Görev öncelikleri - Türkçe ve İngilizce eski değerler aynı seviyeye eşlenir
+     */
+    public enum Priority {
+        HIGH(1, "yüksek", "high"),
+        MEDIUM(2, "orta", "medium"),
+        LOW(3, "düşük", "low"),
+        UNKNOWN(4);
+        
+        private final int rank;
+        private final String[] aliases;
+        
+        Priority(int rank, String... aliases) {
+            this.rank = rank;
+            this.aliases = aliases;
+        }
+        
+        public int getRank() {
+            return rank;
+        }
+        
+        public static Priority fromValue(String value) {
+            if (value == null) {
+                return UNKNOWN;
+            }
+            String normalized = value.trim().toLowerCase(Locale.ROOT);
+            for (Priority priority : values()) {
+                for (String alias : priority.aliases) {
+                    if (alias.equals(normalized)) {
+                        return priority;
+                    }
+                }
+            }
+            return UNKNOWN;
+        }
+    }
 }
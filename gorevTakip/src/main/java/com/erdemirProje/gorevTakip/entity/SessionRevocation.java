@@ -0,0 +1,56 @@
+package com.erdemirProje.gorevTakip.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Geçersiz kılınmış oturum kaydı (çıkış yapılan token veya kullanıcının tüm token'ları)
+ * Satırlar sadece eklenir; her uygulama örneği id sırasıyla okuyup kendi bellek içi listesine
+ * uygular (bkz. DatabaseSessionStore). expiresAt geçince kayıt etkisiz kalır ve silinir.
+ */
+@Entity
+@Table(name = "session_revocations", indexes = {
+    // Süresi dolan kayıtların temizliği
+    @Index(name = "ix_session_revocations_expires", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+public class SessionRevocation {
+
+    // IDENTITY: satırlar tek tek eklenir (batching gerekmez), id'ler okuma sırası (cursor) olarak kullanılır
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Token kaydında dolu, kullanıcı kaydında null
+    @Column(name = "token_id", length = 32)
+    private String tokenId;
+
+    // Kullanıcı kaydında dolu, token kaydında null
+    @Column(name = "user_id")
+    private Long userId;
+
+    // Kullanıcı kaydında bu andan önce üretilen token'lar geçersiz; token kaydında ekleme zamanı
+    @Column(name = "revoked_at", nullable = false)
+    private long revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    public static SessionRevocation token(String tokenId, long revokedAt, long expiresAt) {
+        SessionRevocation revocation = new SessionRevocation();
+        revocation.setTokenId(tokenId);
+        revocation.setRevokedAt(revokedAt);
+        revocation.setExpiresAt(expiresAt);
+        return revocation;
+    }
+
+    public static SessionRevocation user(Long userId, long revokedAt, long expiresAt) {
+        SessionRevocation revocation = new SessionRevocation();
+        revocation.setUserId(userId);
+        revocation.setRevokedAt(revokedAt);
+        revocation.setExpiresAt(expiresAt);
+        return revocation;
+    }
+}
@@ -9,15 +9,22 @@ import lombok.ToString;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    // Müdürün ekip üyeleri
+    @Index(name = "ix_users_manager", columnList = "manager_id"),
+    // Role göre aktif kullanıcılar
+    @Index(name = "ix_users_role_active", columnList = "role, is_active")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString(exclude = "gorevler") // Circular reference'ı önlemek için
 public class User {
     
+    // Id'ler users_seq'ten 50'lik bloklar halinde alınır (bkz. V5__identity_to_sequence.sql)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
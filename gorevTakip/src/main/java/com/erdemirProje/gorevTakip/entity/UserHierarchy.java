@@ -0,0 +1,45 @@
+package com.erdemirProje.gorevTakip.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Kullanıcı hiyerarşisi için closure table
+ * Her kullanıcı ile tüm üstleri (kendisi dahil, depth 0) arasında bir satır tutulur; böylece
+ * "X'in altındaki herkes" tek bir index aramasıyla, ağaç derinliğinden bağımsız okunur.
+ * Satırlar users.manager_id değiştikçe UserHierarchyService tarafından güncellenir.
+ */
+@Entity
+@Table(name = "user_hierarchy", indexes = {
+    // Bir kullanıcının üstleri (taşıma / silme işlemlerinde)
+    @Index(name = "ix_user_hierarchy_descendant", columnList = "descendant_id, ancestor_id, depth")
+})
+@IdClass(UserHierarchy.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserHierarchy {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth; // 0: kendisi, 1: doğrudan ekip üyesi, ...
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -1,16 +1,35 @@
 package com.erdemirProje.gorevTakip.gorevRepo;
 
+import com.erdemirProje.gorevTakip.dto.GorevDto;
 import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface GorevYapisiRepository extends JpaRepository<GorevYapisi, Long> {
     
+    // Salt okunur listeler için ortak DTO projeksiyonu: sadece GorevDto'nun ihtiyaç duyduğu kolonlar seçilir,
+    // entity yönetilmediği için dirty-checking snapshot'ı ve proxy oluşturulmaz
+    String GOREV_DTO_SELECT = "SELECT new com.erdemirProje.gorevTakip.dto.GorevDto(" +
+            "g.gorevid, g.isim, g.description, g.user.id, g.priority, g.status, " +
+            "g.reportedToDirector, g.assignedBy.id, g.parentTask.gorevid) FROM GorevYapisi g ";
+    
+    // Öncelik sıralaması kalıcı priority_rank kolonu üzerinden yapılır (index ile sıralı okunabilir)
+    String ONCELIK_SIRASI = "g.priorityRank ASC, g.gorevid ASC";
+    
     // Kullanıcı ID'sine göre görevleri getir
     List<GorevYapisi> findByUserId(Long userId);
     
@@ -20,7 +39,7 @@ public interface GorevYapisiRepository extends JpaRepository<GorevYapisi, Long>
     // Kullanıcı ID ve öncelik seviyesine göre görevleri getir
     List<GorevYapisi> findByUserIdAndPriority(Long userId, String priority);
     
-    // Açıklamada belirli bir kelime geçen görevleri getir
+    // Açıklamada belirli bir kelime geçen görevleri getir (LIKE '%...%', tablo taraması; arama için TaskSearchIndex)
     List<GorevYapisi> findByDescriptionContaining(String keyword);
     
     // Custom query - Kullanıcının görev sayısını getir
@@ -28,41 +47,20 @@ public interface GorevYapisiRepository extends JpaRepository<GorevYapisi, Long>
     Long countGorevlerByUserid(@Param("userid") Long userid);
     
     // Custom query - Önceliğe göre sıralı görevleri getir
-    @Query("SELECT g FROM GorevYapisi g ORDER BY " +
-           "CASE g.priority " +
-           "WHEN 'HIGH' THEN 1 " +
-           "WHEN 'MEDIUM' THEN 2 " +
-           "WHEN 'LOW' THEN 3 " +
-           "ELSE 4 END")
+    @Query("SELECT g FROM GorevYapisi g ORDER BY " + ONCELIK_SIRASI)
     List<GorevYapisi> findAllOrderedByPriority();
     
     // KULLANICI PANELİ İÇİN YENİ QUERY'LER
     
     // Kullanıcının görevlerini öncelik sırasına göre getir
-    @Query("SELECT g FROM GorevYapisi g WHERE g.user.id = :userid ORDER BY " +
-           "CASE g.priority " +
-           "WHEN 'yüksek' THEN 1 " +
-           "WHEN 'HIGH' THEN 1 " +
-           "WHEN 'orta' THEN 2 " +
-           "WHEN 'MEDIUM' THEN 2 " +
-           "WHEN 'düşük' THEN 3 " +
-           "WHEN 'LOW' THEN 3 " +
-           "ELSE 4 END")
+    @Query("SELECT g FROM GorevYapisi g WHERE g.user.id = :userid ORDER BY " + ONCELIK_SIRASI)
     List<GorevYapisi> findByUseridOrderedByPriority(@Param("userid") Long userid);
     
     // Kullanıcının belirli status'teki görevlerini getir
     List<GorevYapisi> findByUserIdAndStatus(Long userId, String status);
     
     // Kullanıcının tamamlanmamış görevlerini öncelik sırasına göre getir
-    @Query("SELECT g FROM GorevYapisi g WHERE g.user.id = :userid AND g.status != 'COMPLETED' ORDER BY " +
-           "CASE g.priority " +
-           "WHEN 'yüksek' THEN 1 " +
-           "WHEN 'HIGH' THEN 1 " +
-           "WHEN 'orta' THEN 2 " +
-           "WHEN 'MEDIUM' THEN 2 " +
-           "WHEN 'düşük' THEN 3 " +
-           "WHEN 'LOW' THEN 3 " +
-           "ELSE 4 END")
+    @Query("SELECT g FROM GorevYapisi g WHERE g.user.id = :userid AND g.status != 'COMPLETED' ORDER BY " + ONCELIK_SIRASI)
     List<GorevYapisi> findActiveTasksByUseridOrderedByPriority(@Param("userid") Long userid);
     
     // Kullanıcının tamamlanmış görev sayısını getir
@@ -73,24 +71,30 @@ public interface GorevYapisiRepository extends JpaRepository<GorevYapisi, Long>
     @Query("SELECT COUNT(g) FROM GorevYapisi g WHERE g.user.id = :userid AND g.status != 'COMPLETED'")
     Long countActiveTasksByUserid(@Param("userid") Long userid);
     
+    // Kullanıcının toplam, tamamlanmış ve aktif görev sayılarını tek sorguda getir
+    @Query("SELECT COUNT(g) AS total, " +
+           "SUM(CASE WHEN g.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completed, " +
+           "SUM(CASE WHEN g.status <> 'COMPLETED' THEN 1 ELSE 0 END) AS active " +
+           "FROM GorevYapisi g WHERE g.user.id = :userid")
+    TaskStatCounts countTaskStatsByUserid(@Param("userid") Long userid);
+    
+    // Kullanıcı görev sayıları projeksiyonu (görev yoksa SUM değerleri null gelir)
+    interface TaskStatCounts {
+        Long getTotal();
+        Long getCompleted();
+        Long getActive();
+    }
+    
     // MÜDÜR PANELİ İÇİN YENİ QUERY'LER
     
     // Birden çok kullanıcının görevlerini getir (Müdür ekibinin görevleri için)
     @Query("SELECT g FROM GorevYapisi g WHERE g.user.id IN :userIds ORDER BY g.gorevid DESC")
     List<GorevYapisi> findByUserIdIn(@Param("userIds") List<Long> userIds);
     
-    // Birden çok kullanıcının belirli durumdaki görevlerini getir (Arşiv için)
-    @Query("SELECT g FROM GorevYapisi g WHERE g.user.id IN :userIds AND g.status = :status ORDER BY g.gorevid DESC")
-    List<GorevYapisi> findByUserIdInAndStatus(@Param("userIds") List<Long> userIds, @Param("status") String status);
-    
     // Direktöre rapor edilen görevleri getir
     @Query("SELECT g FROM GorevYapisi g WHERE g.reportedToDirector = true ORDER BY g.gorevid DESC")
     List<GorevYapisi> findReportedToDirector();
 
-    // Direktör görünümü: sadece müdürlere atanmış ve child olmayan VE bu direktör tarafından atanmış görevler
-    @Query("SELECT g FROM GorevYapisi g WHERE g.user.role = 'MANAGER' AND g.parentTask IS NULL ORDER BY g.gorevid DESC")
-    List<GorevYapisi> findDirectorVisibleTasks(@Param("directorId") Long directorId);
-
     // Müdür görünümü: kendi görevleri + ekibe verdiği (child) görevler
     @Query("SELECT g FROM GorevYapisi g WHERE (g.user.id = :managerId) OR (g.parentTask IS NOT NULL AND g.assignedBy.id = :managerId) ORDER BY g.gorevid DESC")
     List<GorevYapisi> findManagerVisibleTasks(@Param("managerId") Long managerId);
@@ -99,7 +103,112 @@ public interface GorevYapisiRepository extends JpaRepository<GorevYapisi, Long>
     @Query("SELECT g FROM GorevYapisi g WHERE g.user.id = :managerId ORDER BY g.gorevid DESC")
     List<GorevYapisi> findManagerOwnTasks(@Param("managerId") Long managerId);
 
-    // Müdürün ekibe kendisinin atadığı görevler (sadece TEAM_MEMBER kullanıcılarına, child olsun/olmasın)
-    @Query("SELECT g FROM GorevYapisi g WHERE g.assignedBy.id = :managerId AND g.user.role = 'TEAM_MEMBER' ORDER BY g.gorevid DESC")
-    List<GorevYapisi> findManagerAssignedTeamTasks(@Param("managerId") Long managerId);
-}
\ No newline at end of file
+    // Müdürün ekibe atadığı görevlerin durumlara göre sayıları (performans özeti için)
+    @Query("SELECT g.status AS status, COUNT(g) AS count FROM GorevYapisi g " +
+           "WHERE g.assignedBy.id = :managerId AND g.user.role = 'TEAM_MEMBER' GROUP BY g.status")
+    List<StatusCount> countManagerAssignedTeamTasksByStatus(@Param("managerId") Long managerId);
+
+    // Durum bazlı sayım projeksiyonu
+    interface StatusCount {
+        String getStatus();
+        Long getCount();
+    }
+
+    // Verilen id'lerden direktöre rapor edilebilecek olanlar: tamamlanmış, bu müdürün atadığı ekip üyesi görevleri. Satırlar transaction sonuna kadar kilitlenir
+    // (UPDATE'e kadar durum değişemez)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g.gorevid FROM GorevYapisi g WHERE g.gorevid IN :gorevIds AND g.status = 'COMPLETED' " +
+           "AND g.assignedBy.id = :managerId AND g.user.role = 'TEAM_MEMBER'")
+    List<Long> lockReportableTaskIds(@Param("managerId") Long managerId, @Param("gorevIds") List<Long> gorevIds);
+
+    // Görevleri toplu olarak direktöre rapor edildi işaretle; rapor şartlarının tamamı UPDATE içinde tekrar kontrol edilir
+    // @return Güncellenen satır sayısı
+    @Modifying
+    @Query("UPDATE GorevYapisi g SET g.reportedToDirector = true WHERE g.gorevid IN :gorevIds " +
+           "AND g.status = 'COMPLETED' AND g.assignedBy.id = :managerId " +
+           "AND g.user.id IN (SELECT u.id FROM User u WHERE u.role = 'TEAM_MEMBER')")
+    int markReportedToDirector(@Param("managerId") Long managerId, @Param("gorevIds") List<Long> gorevIds);
+
+    // Verilen id'lerden veritabanında bulunan görevleri getir (toplu doğrulama için)
+    @Query("SELECT g.gorevid FROM GorevYapisi g WHERE g.gorevid IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // SAYFALAMA / AKIŞ İÇİN QUERY'LER
+
+    // Tüm görevlerin DTO'ları JDBC cursor üzerinden akış olarak (tam liste akışı ve arama index'i kurulumu,
+    // aktif transaction gerektirir)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query(GOREV_DTO_SELECT + "ORDER BY g.gorevid ASC")
+    Stream<GorevDto> streamAllDtos();
+
+    // DTO PROJEKSİYONLARI (salt okunur panel yüklemeleri için)
+
+    @Query(GOREV_DTO_SELECT + "WHERE g.user.id = :userid ORDER BY " + ONCELIK_SIRASI)
+    List<GorevDto> findDtosByUseridOrderedByPriority(@Param("userid") Long userid);
+
+    @Query(GOREV_DTO_SELECT + "WHERE g.user.id = :userid AND g.status != 'COMPLETED' ORDER BY " + ONCELIK_SIRASI)
+    List<GorevDto> findActiveTaskDtosByUseridOrderedByPriority(@Param("userid") Long userid);
+
+    @Query(GOREV_DTO_SELECT + "WHERE g.user.id = :userid AND g.status = :status")
+    List<GorevDto> findDtosByUseridAndStatus(@Param("userid") Long userid, @Param("status") String status);
+
+    @Query(GOREV_DTO_SELECT + "WHERE g.user.id IN :userIds ORDER BY g.gorevid DESC")
+    List<GorevDto> findDtosByUserIdIn(@Param("userIds") List<Long> userIds);
+
+    // Müdürün aktif ekip üyelerinin görevleri: id listesi yerine manager_id üzerinden join
+    @Query(GOREV_DTO_SELECT + "WHERE g.user.manager.id = :managerId AND g.user.role = 'TEAM_MEMBER' " +
+           "AND g.user.isActive = true AND g.status = :status ORDER BY g.gorevid DESC")
+    List<GorevDto> findTeamTaskDtosByManagerIdAndStatus(@Param("managerId") Long managerId, @Param("status") String status);
+
+    // Kullanıcının altındaki tüm organizasyonun (her derinlikte) görevleri, closure table üzerinden tek sorgu
+    @Query(GOREV_DTO_SELECT + "WHERE g.user.id IN (SELECT h.descendantId FROM UserHierarchy h " +
+           "WHERE h.ancestorId = :ancestorId AND h.depth > 0) ORDER BY g.gorevid DESC")
+    List<GorevDto> findOrgTaskDtos(@Param("ancestorId") Long ancestorId);
+
+    @Query(GOREV_DTO_SELECT + "WHERE g.reportedToDirector = true ORDER BY g.gorevid DESC")
+    List<GorevDto> findReportedToDirectorDtos();
+
+    // Arama sonuç sayfası (sıralama çağıran tarafta, index puanına göre yapılır)
+    @Query(GOREV_DTO_SELECT + "WHERE g.gorevid IN :ids")
+    List<GorevDto> findDtosByGorevidIn(@Param("ids") Collection<Long> ids);
+
+    @Query(GOREV_DTO_SELECT + "WHERE g.user.role = 'MANAGER' AND g.parentTask IS NULL ORDER BY g.gorevid DESC")
+    List<GorevDto> findDirectorVisibleTaskDtos(@Param("directorId") Long directorId);
+
+    @Query(GOREV_DTO_SELECT + "WHERE (g.user.id = :managerId) OR (g.parentTask IS NOT NULL AND g.assignedBy.id = :managerId) ORDER BY g.gorevid DESC")
+    List<GorevDto> findManagerVisibleTaskDtos(@Param("managerId") Long managerId);
+
+    @Query(GOREV_DTO_SELECT + "WHERE g.user.id = :managerId ORDER BY g.gorevid DESC")
+    List<GorevDto> findManagerOwnTaskDtos(@Param("managerId") Long managerId);
+
+    @Query(GOREV_DTO_SELECT + "WHERE g.assignedBy.id = :managerId AND g.user.role = 'TEAM_MEMBER' ORDER BY g.gorevid DESC")
+    List<GorevDto> findManagerAssignedTeamTaskDtos(@Param("managerId") Long managerId);
+
+    // GÖREV AĞACI (materialized path) İÇİN QUERY'LER
+
+    @Query("SELECT g.treePath FROM GorevYapisi g WHERE g.gorevid = :gorevid")
+    Optional<String> findTreePath(@Param("gorevid") Long gorevid);
+
+    // Birden çok görevin path'i (toplu eklemede üst görev doğrulaması ile birlikte)
+    @Query("SELECT g.gorevid AS gorevid, g.treePath AS treePath FROM GorevYapisi g WHERE g.gorevid IN :ids")
+    List<TreePath> findTreePaths(@Param("ids") Collection<Long> ids);
+
+    // Görev id + path projeksiyonu
+    interface TreePath {
+        Long getGorevid();
+        String getTreePath();
+    }
+
+    // Görev ve tüm alt görevleri (her derinlikte) tek sorguda: pathPrefix = görevin path'i + id + "/%"
+    @Query(GOREV_DTO_SELECT + "WHERE g.gorevid = :gorevid OR g.treePath LIKE :pathPrefix ORDER BY g.gorevid ASC")
+    List<GorevDto> findSubtreeDtos(@Param("gorevid") Long gorevid, @Param("pathPrefix") String pathPrefix);
+
+    // Alt ağacın (görev dahil) durumlara göre sayıları
+    @Query("SELECT g.status AS status, COUNT(g) AS count FROM GorevYapisi g " +
+           "WHERE g.gorevid = :gorevid OR g.treePath LIKE :pathPrefix GROUP BY g.status")
+    List<StatusCount> countSubtreeByStatus(@Param("gorevid") Long gorevid, @Param("pathPrefix") String pathPrefix);
+
+    // Keyset sayfalama: cursor'dan (gorevid) sonraki görevleri artan sırada getir
+    @Query(GOREV_DTO_SELECT + "WHERE g.gorevid > :cursor ORDER BY g.gorevid ASC")
+    List<GorevDto> findDtoPageAfter(@Param("cursor") Long cursor, Limit limit);
+}
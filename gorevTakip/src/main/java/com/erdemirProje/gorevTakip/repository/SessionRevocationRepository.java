@@ -0,0 +1,28 @@
+package com.erdemirProje.gorevTakip.repository;
+
+import com.erdemirProje.gorevTakip.entity.SessionRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface SessionRevocationRepository extends JpaRepository<SessionRevocation, Long> {
+
+    /**
+     * Verilen id'den sonra eklenen kayıtlar, ekleme sırasıyla (en fazla 1000)
+     */
+    List<SessionRevocation> findTop1000ByIdGreaterThanOrderByIdAsc(Long id);
+
+    /**
+     * Süresi dolmuş kayıtları sil (herhangi bir uygulama örneği çalıştırabilir)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SessionRevocation r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+}
@@ -0,0 +1,73 @@
+package com.erdemirProje.gorevTakip.repository;
+
+import com.erdemirProje.gorevTakip.dto.UserDto;
+import com.erdemirProje.gorevTakip.entity.UserHierarchy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserHierarchyRepository extends JpaRepository<UserHierarchy, UserHierarchy.Key> {
+
+    /**
+     * Kullanıcının altındaki tüm kullanıcılar (her derinlikte), yakından uzağa
+     */
+    @Query("SELECT new com.erdemirProje.gorevTakip.dto.UserDto(u.id, u.username, u.email, u.fullName, u.role, " +
+           "u.isActive, u.managerType, u.manager.id) " +
+           "FROM UserHierarchy h JOIN User u ON u.id = h.descendantId " +
+           "WHERE h.ancestorId = :ancestorId AND h.depth > 0 ORDER BY h.depth, u.id")
+    List<UserDto> findDescendantDtos(@Param("ancestorId") Long ancestorId);
+
+    /**
+     * ancestorId, descendantId'nin üstü mü (veya kendisi mi)
+     */
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    /**
+     * Kayıtlı kullanıcı sayısı (her kullanıcının bir depth 0 satırı vardır)
+     */
+    long countByDepth(int depth);
+
+    /**
+     * Kullanıcı için kendi satırını ekle
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth) VALUES (:userId, :userId, 0)",
+           nativeQuery = true)
+    int insertSelf(@Param("userId") Long userId);
+
+    /**
+     * userId'nin alt ağacını managerId'nin altına bağla: managerId'nin her üstü ile alt ağacın
+     * her üyesi arasına yol ekler
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth) " +
+                   "SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1 " +
+                   "FROM user_hierarchy a CROSS JOIN user_hierarchy d " +
+                   "WHERE a.descendant_id = :managerId AND d.ancestor_id = :userId",
+           nativeQuery = true)
+    int attachSubtree(@Param("userId") Long userId, @Param("managerId") Long managerId);
+
+    /**
+     * userId'nin alt ağacını mevcut üstlerinden ayır (alt ağaç içindeki yollar korunur)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_hierarchy " +
+                   "WHERE descendant_id IN (SELECT descendant_id FROM user_hierarchy WHERE ancestor_id = :userId) " +
+                   "AND ancestor_id IN (SELECT ancestor_id FROM user_hierarchy WHERE descendant_id = :userId AND ancestor_id <> :userId)",
+           nativeQuery = true)
+    int detachSubtree(@Param("userId") Long userId);
+
+    /**
+     * userId ve altındaki herkesin tüm satırlarını sil
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_hierarchy " +
+                   "WHERE descendant_id IN (SELECT descendant_id FROM user_hierarchy WHERE ancestor_id = :userId)",
+           nativeQuery = true)
+    int deleteSubtree(@Param("userId") Long userId);
+}
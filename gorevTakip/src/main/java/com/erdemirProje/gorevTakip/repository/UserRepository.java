@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +41,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
     
+    /**
+     * Verilen id'de verilen rolde bir kullanıcı olup olmadığını kontrol etme
+     * @param id Kullanıcı ID'si
+     * @param role Beklenen rol
+     * @return Bu rolde kullanıcı var mı?
+     */
+    boolean existsByIdAndRole(Long id, User.Role role);
+    
     /**
      * Aktif kullanıcıları getirme
      * @return Aktif kullanıcı listesi
@@ -105,6 +114,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) FROM User u WHERE u.manager.id = :managerId AND u.role = 'TEAM_MEMBER'")
     Long countTeamMembersByManagerId(@Param("managerId") Long managerId);
     
+    /**
+     * Belirli bir müdürün aktif ekip üyesi sayısını getir
+     */
+    @Query("SELECT COUNT(u) FROM User u WHERE u.manager.id = :managerId AND u.role = 'TEAM_MEMBER' AND u.isActive = true")
+    Long countActiveTeamMembersByManagerId(@Param("managerId") Long managerId);
+    
+    /**
+     * Aktif ekip üyesi -> müdür bağlantıları (hiyerarşi index'ini kurmak için)
+     */
+    @Query("SELECT u.id AS memberId, u.manager.id AS managerId FROM User u " +
+           "WHERE u.manager IS NOT NULL AND u.role = 'TEAM_MEMBER' AND u.isActive = true")
+    List<TeamLink> findActiveTeamLinks();
+    
+    /**
+     * Tüm kullanıcıların müdür bağlantıları (müdürü olmayanlar dahil; closure table'ı kurmak için)
+     */
+    @Query("SELECT u.id AS memberId, m.id AS managerId FROM User u LEFT JOIN u.manager m")
+    List<TeamLink> findAllManagerLinks();
+    
+    // Ekip üyesi - müdür projeksiyonu
+    interface TeamLink {
+        Long getMemberId();
+        Long getManagerId();
+    }
+    
     // Backward compatibility
     /**
      * Admin kullanıcıları getirme (backward compatibility)
@@ -120,6 +154,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.role = 'TEAM_MEMBER' AND u.isActive = true")
     List<User> findActiveUsers();
     
+    /**
+     * Verilen id'lerden veritabanında bulunanları getir (toplu doğrulama için)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    
     /**
      * Username veya email ile kullanıcı bulma (login için)
      * @param usernameOrEmail Username veya email
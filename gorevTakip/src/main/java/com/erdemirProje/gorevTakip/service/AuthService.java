@@ -4,19 +4,41 @@ import com.erdemirProje.gorevTakip.dto.*;
 import com.erdemirProje.gorevTakip.entity.User;
 import com.erdemirProje.gorevTakip.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class AuthService {
     
     private final UserRepository userRepository;
+    private final UserTaskStatsCache statsCache;
     
-    // Basit session store (gerçek uygulamada Redis veya database kullanılır)
-    private final Map<String, User> activeSessions = new ConcurrentHashMap<>();
+    // id -> UserDto önbelleği; kullanıcı yazmaları burada güncellenir
+    private final UserCacheService userCache;
+    
+    // Müdür -> ekip üyesi index'i; kullanıcı yazmaları burada güncellenir
+    private final OrgHierarchyIndex hierarchy;
+    
+    // Çok seviyeli hiyerarşi (closure table); müdür değişiklikleri burada yansıtılır
+    private final UserHierarchyService userHierarchy;
+    
+    // Görev listesi ETag damgaları; kullanıcı silme/güncellemede hepsi geçersiz olur
+    private final TaskVersionStamps taskVersions;
+    
+    // İmzalı token'lar (kullanıcı id, rol, müdür id ve bitiş zamanını taşır)
+    private final SessionTokenCodec tokenCodec;
+    
+    // Çıkış yapılmış, süresi henüz dolmamış token'lar (bellek içi veya dosya tabanlı)
+    private final SessionStore sessionStore;
+    
+    // Geçersiz kılınmış olduğu için reddedilen token sayısı
+    private final AtomicLong rejectedRevoked = new AtomicLong();
     
     /**
      * Kullanıcı girişi
@@ -41,8 +63,7 @@ public class AuthService {
             }
             
             // Session token oluştur
-            String token = generateToken();
-            activeSessions.put(token, user);
+            String token = tokenCodec.issue(SessionPrincipal.fromEntity(user));
             
             // Başarılı giriş yanıtı
             LoginResponse response = new LoginResponse(
@@ -54,7 +75,7 @@ public class AuthService {
                 token
             );
             
-            System.out.println("✅ Login başarılı - User: " + user.getUsername() + ", Role: " + user.getRole());
+            log.info("Login başarılı - User: {}, Role: {}", user.getUsername(), user.getRole());
             return response;
             
         } catch (Exception e) {
@@ -92,10 +113,11 @@ public class AuthService {
             
             // Veritabanına kaydet
             User savedUser = userRepository.save(newUser);
+            hierarchy.update(userCache.put(UserDto.fromEntity(savedUser)));
+            userHierarchy.userCreated(savedUser.getId(), null);
             
             // Otomatik giriş yap
-            String token = generateToken();
-            activeSessions.put(token, savedUser);
+            String token = tokenCodec.issue(SessionPrincipal.fromEntity(savedUser));
             
             return new LoginResponse(
                 savedUser.getId(),
@@ -117,16 +139,28 @@ public class AuthService {
      * @return Çıkış başarılı mı?
      */
     public boolean logout(String token) {
-        return activeSessions.remove(token) != null;
+        // Yenilenmiş token'lar aynı tokenId'yi taşıdığı için kayıt oturumun sonuna kadar tutulur
+        return validClaims(token)
+            .map(claims -> sessionStore.revokeToken(claims.tokenId(), tokenCodec.sessionExpiresAt(claims)))
+            .orElse(false);
     }
     
     /**
-     * Token'a göre kullanıcı bilgisi al
+     * Token'a ait oturum özetini al (veritabanına ve oturum tablosuna gitmez)
      * @param token Session token
-     * @return Kullanıcı bilgisi
+     * @return Oturum özeti
      */
-    public Optional<User> getUserByToken(String token) {
-        return Optional.ofNullable(activeSessions.get(token));
+    public Optional<SessionPrincipal> getPrincipalByToken(String token) {
+        return validClaims(token).map(SessionTokenCodec.Claims::principal);
+    }
+    
+    /**
+     * Token içeriğini al (oturum yenileme için issuedAt / expiresAt da gerekir)
+     * @param token Session token
+     * @return İmzası, süresi ve geçersiz kılınma durumu kontrol edilmiş token içeriği
+     */
+    public Optional<SessionTokenCodec.Claims> getClaimsByToken(String token) {
+        return validClaims(token);
     }
     
     /**
@@ -135,7 +169,7 @@ public class AuthService {
      * @return Token geçerli mi?
      */
     public boolean isTokenValid(String token) {
-        return token != null && activeSessions.containsKey(token);
+        return validClaims(token).isPresent();
     }
     
     /**
@@ -144,17 +178,60 @@ public class AuthService {
      * @return Admin mi?
      */
     public boolean isAdmin(String token) {
-        return getUserByToken(token)
-            .map(User::isAdmin)
+        return getPrincipalByToken(token)
+            .map(SessionPrincipal::isAdmin)
             .orElse(false);
     }
     
     /**
-     * Basit token oluştur
-     * @return Rastgele token
+     * İmzası, süresi ve geçersiz kılınma durumu kontrol edilmiş token içeriği
+     */
+    private Optional<SessionTokenCodec.Claims> validClaims(String token) {
+        return tokenCodec.parse(token)
+            .filter(claims -> {
+                if (sessionStore.isRevoked(claims.tokenId(), claims.principal().getUserId(), claims.issuedAt())) {
+                    rejectedRevoked.incrementAndGet();
+                    return false;
+                }
+                return true;
+            });
+    }
+    
+    /**
+     * Süresi dolmuş geçersiz kılma kayıtlarını arka planda temizle
      */
-    private String generateToken() {
-        return UUID.randomUUID().toString() + "-" + System.currentTimeMillis();
+    @Scheduled(fixedDelayString = "${gorev.session.sweep-interval-millis:60000}")
+    public void removeExpiredSessions() {
+        sessionStore.removeExpired(System.currentTimeMillis(), tokenCodec.getTtlMillis());
+    }
+    
+    /**
+     * Diğer uygulama örneklerinde yapılan çıkış / kullanıcı geçersiz kılmalarını al
+     */
+    @Scheduled(fixedDelayString = "${gorev.session.sync-interval-millis:5000}")
+    public void syncSessions() {
+        sessionStore.sync();
+    }
+    
+    /**
+     * Token üretim / red sayıları ve geçersiz kılınmış token listesi boyutu
+     */
+    public SessionStatsDto getSessionStats() {
+        return new SessionStatsDto(
+            tokenCodec.getIssuedTokens(),
+            tokenCodec.getInvalidTokens(),
+            tokenCodec.getExpiredTokens(),
+            rejectedRevoked.get(),
+            sessionStore.getRevokedTokenCount(),
+            sessionStore.getRevokedUserCount()
+        );
+    }
+    
+    /**
+     * Geçersiz kılınmış olduğu için reddedilen token sayısı
+     */
+    public long getRejectedRevokedTokens() {
+        return rejectedRevoked.get();
     }
     
     /**
@@ -183,7 +260,7 @@ public class AuthService {
             director.setManager(null); // Direktörün müdürü yok
             
             userRepository.save(director);
-            System.out.println("✅ Default direktör kullanıcısı oluşturuldu: director/director123");
+            log.info("Default direktör kullanıcısı oluşturuldu: director/director123");
         }
     }
     
@@ -191,7 +268,7 @@ public class AuthService {
         // İlk direktörü bul
         Optional<User> directorOpt = userRepository.findByRole(User.Role.DIRECTOR).stream().findFirst();
         if (directorOpt.isEmpty()) {
-            System.out.println("⚠️ Direktör bulunamadı, müdür oluşturulamadı");
+            log.warn("Direktör bulunamadı, müdür oluşturulamadı");
             return;
         }
         
@@ -206,7 +283,7 @@ public class AuthService {
             manager.setManager(null); // Müdürün de müdürü yok (direktöre rapor verir)
             
             userRepository.save(manager);
-            System.out.println("✅ Default müdür kullanıcısı oluşturuldu: manager/manager123");
+            log.info("Default müdür kullanıcısı oluşturuldu: manager/manager123");
         }
     }
     
@@ -216,9 +293,9 @@ public class AuthService {
     public void createDefaultTeamMember() {
         // İlk müdürü bul
         List<User> allManagers = userRepository.findByRole(User.Role.MANAGER);
-        System.out.println("🔍 Müdür arama: Bulunan müdür sayısı: " + allManagers.size());
+        log.debug("Müdür arama: Bulunan müdür sayısı: {}", allManagers.size());
         for (User manager : allManagers) {
-            System.out.println("👤 Müdür: " + manager.getUsername() + " - ID: " + manager.getId());
+            log.trace("Müdür: {} - ID: {}", manager.getUsername(), manager.getId());
         }
         
         Optional<User> managerOpt = allManagers.stream().findFirst();
@@ -236,15 +313,15 @@ public class AuthService {
             if (managerOpt.isPresent()) {
                 User manager = managerOpt.get();
                 teamMember.setManager(manager);
-                System.out.println("✅ Ekip üyesi müdüre atandı: " + manager.getUsername() + " (ID: " + manager.getId() + ")");
+                log.debug("Ekip üyesi müdüre atandı: {} (ID: {})", manager.getUsername(), manager.getId());
             } else {
                 teamMember.setManager(null); // Henüz atanmamış
-                System.out.println("⚠️ Müdür bulunamadı, ekip üyesi atanmamış olarak oluşturuldu");
+                log.warn("Müdür bulunamadı, ekip üyesi atanmamış olarak oluşturuldu");
             }
             
             User savedTeamMember = userRepository.save(teamMember);
-            System.out.println("✅ Default ekip üyesi oluşturuldu: teammember/team123 (ID: " + savedTeamMember.getId() + ")");
-            System.out.println("📝 Kaydedilen ekip üyesinin müdür ID'si: " + (savedTeamMember.getManager() != null ? savedTeamMember.getManager().getId() : "NULL"));
+            log.info("Default ekip üyesi oluşturuldu: teammember/team123 (ID: {})", savedTeamMember.getId());
+            log.debug("Kaydedilen ekip üyesinin müdür ID'si: {}", (savedTeamMember.getManager() != null ? savedTeamMember.getManager().getId() : "NULL"));
         }
     }
 
@@ -273,19 +350,21 @@ public class AuthService {
             newUser.setIsActive(true);
             // Eğer ekip üyesi oluşturuluyorsa ve managerId gönderilmişse, müdüre ata
             if (registerRequest.getRole() == User.Role.TEAM_MEMBER && registerRequest.getManagerId() != null) {
-                userRepository.findById(registerRequest.getManagerId()).ifPresent(manager -> {
-                    if (manager.getRole() == User.Role.MANAGER) {
-                        newUser.setManager(manager);
-                    }
-                });
+                UserDto manager = userCache.findUser(registerRequest.getManagerId());
+                if (manager != null && manager.getRole() == User.Role.MANAGER) {
+                    newUser.setManager(userRepository.getReferenceById(manager.getId()));
+                }
             }
             
             // Veritabanına kaydet
             User savedUser = userRepository.save(newUser);
             
-            return UserDto.fromEntity(savedUser);
+            UserDto savedDto = userCache.put(UserDto.fromEntity(savedUser));
+            hierarchy.update(savedDto);
+            userHierarchy.userCreated(savedDto.getId(), savedDto.getManagerId());
+            return savedDto;
         } catch (Exception e) {
-            System.out.println("❌ Kullanıcı oluşturulurken hata: " + e.getMessage());
+            log.error("Kullanıcı oluşturulurken hata: {}", e.getMessage(), e);
             return null;
         }
     }
@@ -300,19 +379,19 @@ public class AuthService {
                     .map(UserDto::fromEntity)
                     .collect(java.util.stream.Collectors.toList());
         } catch (Exception e) {
-            System.out.println("❌ Kullanıcılar getirilirken hata: " + e.getMessage());
+            log.error("Kullanıcılar getirilirken hata: {}", e.getMessage(), e);
             return List.of();
         }
     }
 
     /**
-     * ID'ye göre kullanıcı getir (Admin Only)
+     * ID'ye göre kullanıcı getir (önbellekten)
      */
-    public Optional<User> findById(Long id) {
+    public Optional<UserDto> findUserDto(Long id) {
         try {
-            return userRepository.findById(id);
+            return Optional.ofNullable(userCache.findUser(id));
         } catch (Exception e) {
-            System.out.println("❌ Kullanıcı getirilirken hata: " + e.getMessage());
+            log.error("Kullanıcı getirilirken hata: {}", e.getMessage(), e);
             return Optional.empty();
         }
     }
@@ -328,17 +407,23 @@ public class AuthService {
                 
                 // Direktör kullanıcısını silmeyi engelle
                 if (user.getRole() == User.Role.DIRECTOR) {
-                    System.out.println("⚠️ Direktör kullanıcısı silinemez!");
+                    log.warn("Direktör kullanıcısı silinemez!");
                     return false;
                 }
                 
                 userRepository.delete(user);
-                System.out.println("✅ Kullanıcı silindi: " + user.getUsername());
+                statsCache.invalidate(userId); // Kullanıcının görevleri cascade ile silindi
+                userCache.evictAll(); // Ekip üyeleri de cascade ile silinmiş olabilir
+                hierarchy.remove(userId);
+                userHierarchy.userDeleted(userId);
+                taskVersions.invalidateAll();
+                sessionStore.revokeUser(userId, System.currentTimeMillis());
+                log.debug("Kullanıcı silindi: {}", user.getUsername());
                 return true;
             }
             return false;
         } catch (Exception e) {
-            System.out.println("❌ Kullanıcı silinirken hata: " + e.getMessage());
+            log.error("Kullanıcı silinirken hata: {}", e.getMessage(), e);
             return false;
         }
     }
@@ -351,6 +436,7 @@ public class AuthService {
             Optional<User> userOptional = userRepository.findById(userId);
             if (userOptional.isPresent()) {
                 User user = userOptional.get();
+                SessionPrincipal principalBefore = SessionPrincipal.fromEntity(user);
                 
                 // Güncelleme işlemleri
                 if (request.getUsername() != null && !request.getUsername().isEmpty()) {
@@ -377,7 +463,7 @@ public class AuthService {
                         User.Role newRole = User.Role.valueOf(request.getRole().toUpperCase());
                         user.setRole(newRole);
                     } catch (IllegalArgumentException e) {
-                        System.out.println("⚠️ Geçersiz rol: " + request.getRole());
+                        log.warn("Geçersiz rol: {}", request.getRole());
                     }
                 }
                 
@@ -391,19 +477,32 @@ public class AuthService {
 
                 // Ekip üyesi için müdür ataması/güncellemesi
                 if (request.getManagerId() != null && user.getRole() == User.Role.TEAM_MEMBER) {
-                    userRepository.findById(request.getManagerId()).ifPresent(manager -> {
-                        if (manager.getRole() == User.Role.MANAGER) {
-                            user.setManager(manager);
-                        }
-                    });
+                    UserDto manager = userCache.findUser(request.getManagerId());
+                    // Kendi alt ağacındaki birine bağlanırsa hiyerarşide döngü oluşur
+                    if (manager != null && manager.getRole() == User.Role.MANAGER
+                            && !userHierarchy.isInSubtree(userId, manager.getId())) {
+                        user.setManager(userRepository.getReferenceById(manager.getId()));
+                    }
                 }
                 
                 User updatedUser = userRepository.save(user);
-                return UserDto.fromEntity(updatedUser);
+                UserDto updatedDto = userCache.put(UserDto.fromEntity(updatedUser));
+                hierarchy.update(updatedDto);
+                if (!Objects.equals(principalBefore.getManagerId(), updatedDto.getManagerId())) {
+                    userHierarchy.managerChanged(userId, updatedDto.getManagerId());
+                }
+                taskVersions.invalidateAll(); // Rol değişimi ekip görev listelerini etkiler
+                
+                // Rolü/müdürü değişen veya pasif yapılan kullanıcının eski token'ları artık geçersiz
+                if (!Boolean.TRUE.equals(updatedUser.getIsActive())
+                        || !principalBefore.equals(SessionPrincipal.fromEntity(updatedUser))) {
+                    sessionStore.revokeUser(userId, System.currentTimeMillis());
+                }
+                return updatedDto;
             }
             return null;
         } catch (Exception e) {
-            System.out.println("❌ Kullanıcı güncellenirken hata: " + e.getMessage());
+            log.error("Kullanıcı güncellenirken hata: {}", e.getMessage(), e);
             return null;
         }
     }
@@ -418,7 +517,7 @@ public class AuthService {
                     .map(UserDto::fromEntity)
                     .collect(java.util.stream.Collectors.toList());
         } catch (Exception e) {
-            System.out.println("❌ Müdürler getirilirken hata: " + e.getMessage());
+            log.error("Müdürler getirilirken hata: {}", e.getMessage(), e);
             return List.of();
         }
     }
@@ -0,0 +1,98 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.entity.SessionRevocation;
+import com.erdemirProje.gorevTakip.repository.SessionRevocationRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Geçersiz kılmaları veritabanı tablosu (session_revocations) üzerinden paylaşan oturum deposu (varsayılan)
+ * Token doğrulama yine sadece bellekteki haritalara bakar. Her geçersiz kılma tabloya da eklenir ve
+ * {@link #sync()} diğer uygulama örneklerinin eklediği satırları id sırasıyla okuyup uygular; böylece
+ * çıkış, kullanıcı silme / pasifleştirme ve rol değişikliği en geç bir senkron aralığı
+ * (gorev.session.sync-interval-millis) sonra tüm örneklerde geçerli olur. Yeniden başlayan örnek
+ * süresi dolmamış kayıtları ilk senkronda geri yükler.
+ *
+ * Eşzamanlı eklemelerde küçük id'li satır daha geç commit edilebilir; cursor hemen en büyük id'ye
+ * ilerleseydi bu satır hiç okunmazdı. Cursor bu yüzden sadece SETTLE_MILLIS'ten eski satırların
+ * üzerine ilerler, daha yeni satırlar sonraki senkronda tekrar okunur (uygulamak idempotent).
+ */
+@Slf4j
+public class DatabaseSessionStore extends InMemorySessionStore {
+
+    // Tek satırlık bir insert'in commit'inin bundan uzun sürmeyeceği varsayılır
+    private static final long SETTLE_MILLIS = 30_000;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final SessionRevocationRepository repository;
+    private final long tokenTtlMillis;
+
+    // Bu id'ye kadar (dahil) tüm satırlar uygulandı
+    private long cursor;
+
+    public DatabaseSessionStore(SessionRevocationRepository repository, long tokenTtlMillis) {
+        this.repository = repository;
+        this.tokenTtlMillis = tokenTtlMillis;
+    }
+
+    @Override
+    public boolean revokeToken(String tokenId, long expiresAt) {
+        boolean added = super.revokeToken(tokenId, expiresAt);
+        if (added) {
+            repository.save(SessionRevocation.token(tokenId, System.currentTimeMillis(), expiresAt));
+        }
+        return added;
+    }
+
+    @Override
+    public void revokeUser(Long userId, long revokedAt) {
+        super.revokeUser(userId, revokedAt);
+        repository.save(SessionRevocation.user(userId, revokedAt, revokedAt + tokenTtlMillis));
+    }
+
+    @Override
+    public synchronized void sync() {
+        try {
+            long now = System.currentTimeMillis();
+            long settledBefore = now - SETTLE_MILLIS;
+            boolean settled = true;
+            long from = cursor;
+            List<SessionRevocation> rows;
+            do {
+                rows = repository.findTop1000ByIdGreaterThanOrderByIdAsc(from);
+                for (SessionRevocation row : rows) {
+                    if (row.getExpiresAt() > now) {
+                        apply(row);
+                    }
+                    settled = settled && row.getRevokedAt() < settledBefore;
+                    if (settled) {
+                        cursor = row.getId();
+                    }
+                    from = row.getId();
+                }
+            } while (rows.size() == BATCH_SIZE);
+        } catch (RuntimeException e) {
+            // Sonraki senkronda aynı cursor'dan tekrar denenir
+            log.warn("Oturum geçersiz kılmaları okunamadı: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void removeExpired(long now, long tokenTtlMillis) {
+        super.removeExpired(now, tokenTtlMillis);
+        int deleted = repository.deleteExpired(now);
+        if (deleted > 0) {
+            log.debug("Süresi dolmuş {} oturum kaydı silindi", deleted);
+        }
+    }
+
+    private void apply(SessionRevocation row) {
+        if (row.getTokenId() != null) {
+            super.revokeToken(row.getTokenId(), row.getExpiresAt());
+        } else if (row.getUserId() != null) {
+            super.revokeUser(row.getUserId(), row.getRevokedAt());
+        }
+    }
+}
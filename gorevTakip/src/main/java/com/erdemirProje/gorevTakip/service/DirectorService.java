@@ -1,16 +1,16 @@
 package com.erdemirProje.gorevTakip.service;
 
 import com.erdemirProje.gorevTakip.dto.GorevDto;
-import com.erdemirProje.gorevTakip.entity.GorevYapisi;
 import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class DirectorService {
 
     private final GorevYapisiRepository gorevRepository;
@@ -20,13 +20,15 @@ public class DirectorService {
      * veya bu direktör tarafından atanmış görevler.
      */
     public List<GorevDto> getDirectorVisibleTasks(Long directorId) {
-        System.out.println("🔍 DirectorService.getDirectorVisibleTasks çağrıldı - directorId: " + directorId);
-        List<GorevYapisi> tasks = gorevRepository.findDirectorVisibleTasks(directorId);
-        System.out.println("📊 Bulunan görev sayısı: " + tasks.size());
-        for (GorevYapisi task : tasks) {
-            System.out.println("📝 Görev: " + task.getIsim() + " - User: " + (task.getUser() != null ? task.getUser().getRole() : "null") + " - AssignedBy: " + (task.getAssignedBy() != null ? task.getAssignedBy().getId() : "null"));
+        List<GorevDto> tasks = gorevRepository.findDirectorVisibleTaskDtos(directorId);
+        log.debug("Direktör görünümü - directorId: {}, görev sayısı: {}", directorId, tasks.size());
+        // Satır bazlı çıktı sadece TRACE açıkken (liste her istekte gezilmez)
+        if (log.isTraceEnabled()) {
+            for (GorevDto task : tasks) {
+                log.trace("Görev: {} - User ID: {} - AssignedBy: {}", task.getIsim(), task.getUserid(), task.getAssignedById());
+            }
         }
-        return tasks.stream().map(GorevDto::fromEntity).collect(Collectors.toList());
+        return tasks;
     }
 }
 
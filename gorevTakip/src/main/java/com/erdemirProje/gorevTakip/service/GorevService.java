@@ -1,20 +1,61 @@
 package com.erdemirProje.gorevTakip.service;
 
+import com.erdemirProje.gorevTakip.dto.BulkTaskResponse;
 import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.GorevPageResponse;
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
+import com.erdemirProje.gorevTakip.dto.TaskEventDto;
+import com.erdemirProje.gorevTakip.dto.TaskSearchResponse;
 import com.erdemirProje.gorevTakip.entity.GorevYapisi;
 import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
 import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class GorevService {
     
     private final GorevYapisiRepository gorevRepository;
+    private final EntityManager entityManager; // Toplu eklemede parçalar arasında persistence context temizliği için
+    private final UserTaskStatsCache statsCache;
+    private final TaskVersionStamps taskVersions;
+    private final TaskEventBroker taskEvents;
+    private final TaskTreeService taskTree;
+    private final TaskSearchIndex searchIndex;
+    private final OrgHierarchyIndex hierarchy;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    // Sayfa boyutu sınırları
+    public static final int VARSAYILAN_SAYFA_BOYUTU = 100;
+    public static final int MAKSIMUM_SAYFA_BOYUTU = 1000;
+    
+    // Arama sonuç sayfası sınırları (derin sayfalar index'te daha çok sonuç tutmayı gerektirir)
+    public static final int VARSAYILAN_ARAMA_BOYUTU = 20;
+    public static final int MAKSIMUM_ARAMA_BOYUTU = 100;
+    public static final int MAKSIMUM_ARAMA_SONUCU = 1000;
+    
+    // Toplu eklemede her transaction'da işlenecek görev sayısı (JDBC batch boyutunun katı)
+    public static final int TOPLU_EKLEME_PARCA_BOYUTU = 500;
     
     /**
      * Yeni görev ekleme işlemi
@@ -43,14 +84,180 @@ public class GorevService {
             parent.setGorevid(gorevDto.getParentTaskId());
             yeniGorev.setParentTask(parent);
         }
+        taskTree.assignPath(yeniGorev);
 
         // Veritabanına kaydet
         GorevYapisi kaydedilenGorev = gorevRepository.save(yeniGorev);
+        statsCache.invalidate(kaydedilenGorev.getUserid());
+        taskTree.taskAdded(kaydedilenGorev);
+        searchIndex.taskSaved(kaydedilenGorev);
+        taskVersions.taskChanged(kaydedilenGorev);
+        taskEvents.publish(TaskEventDto.Type.TASK_CREATED, kaydedilenGorev);
         
         // Kaydedilen entity'yi DTO'ya dönüştürüp geri döndür
         return GorevDto.fromEntity(kaydedilenGorev);
     }
     
+    /**
+     * Toplu görev ekleme işlemi
+     * Görevler parçalar halinde okunur; her parçanın kullanıcı ve üst görev referansları
+     * tek sorguyla doğrulanır ve geçerli görevler tek transaction içinde batch olarak kaydedilir.
+     * Önceki parçalar commit edilmiş olabileceği için okuma hataları da sonuç listesine yazılır:
+     * next() IllegalArgumentException atarsa o kayıt reddedilir ve okumaya devam edilir,
+     * UncheckedIOException atarsa okunmuş görevler kaydedilir ve okuma durur.
+     * @param gorevler Eklenecek görevler (JSON dizisi veya NDJSON akışından)
+     * @return Her görev için sonuç
+     */
+    public BulkTaskResponse gorevleriTopluEkle(Iterator<GorevDto> gorevler) {
+        List<BulkTaskResponse.ItemResult> sonuclar = new ArrayList<>();
+        List<GorevDto> parca = new ArrayList<>(TOPLU_EKLEME_PARCA_BOYUTU);
+        // Parçadaki okunamayan kayıtlar (parça içi sıra -> hata mesajı)
+        Map<Integer, String> okunamayanlar = new HashMap<>();
+        
+        while (true) {
+            try {
+                if (!gorevler.hasNext()) {
+                    break;
+                }
+                parca.add(gorevler.next());
+            } catch (IllegalArgumentException e) {
+                okunamayanlar.put(parca.size(), e.getMessage());
+                parca.add(null);
+            } catch (UncheckedIOException e) {
+                sonuclar.addAll(parcayiEkle(parca, sonuclar.size(), okunamayanlar));
+                sonuclar.add(new BulkTaskResponse.ItemResult(sonuclar.size(), false, null,
+                        "İstek gövdesi okunamadı, sonraki görevler işlenmedi: " + e.getMessage()));
+                return BulkTaskResponse.of(sonuclar);
+            }
+            if (parca.size() == TOPLU_EKLEME_PARCA_BOYUTU) {
+                sonuclar.addAll(parcayiEkle(parca, sonuclar.size(), okunamayanlar));
+                parca.clear();
+                okunamayanlar.clear();
+            }
+        }
+        if (!parca.isEmpty()) {
+            sonuclar.addAll(parcayiEkle(parca, sonuclar.size(), okunamayanlar));
+        }
+        
+        return BulkTaskResponse.of(sonuclar);
+    }
+    
+    /**
+     * Bir parça görevi doğrula ve tek transaction içinde kaydet
+     */
+    private List<BulkTaskResponse.ItemResult> parcayiEkle(List<GorevDto> parca, int baslangicIndex,
+                                                          Map<Integer, String> okunamayanlar) {
+        if (parca.isEmpty()) {
+            return List.of();
+        }
+        // Referans verilen kullanıcı ve görevleri tek seferde doğrula
+        Set<Long> kullaniciIdleri = new HashSet<>();
+        Set<Long> ustGorevIdleri = new HashSet<>();
+        for (GorevDto dto : parca) {
+            if (dto == null) continue;
+            if (dto.getUserid() != null) kullaniciIdleri.add(dto.getUserid());
+            if (dto.getAssignedById() != null) kullaniciIdleri.add(dto.getAssignedById());
+            if (dto.getParentTaskId() != null) ustGorevIdleri.add(dto.getParentTaskId());
+        }
+        Set<Long> mevcutKullanicilar = kullaniciIdleri.isEmpty()
+                ? Set.of() : new HashSet<>(userRepository.findExistingIds(kullaniciIdleri));
+        // Üst görevlerin path'leri doğrulama ile aynı sorguda okunur
+        Map<Long, String> ustGorevPathleri = new HashMap<>();
+        if (!ustGorevIdleri.isEmpty()) {
+            for (GorevYapisiRepository.TreePath ustGorev : gorevRepository.findTreePaths(ustGorevIdleri)) {
+                ustGorevPathleri.put(ustGorev.getGorevid(), ustGorev.getTreePath());
+            }
+        }
+        Set<Long> mevcutGorevler = ustGorevPathleri.keySet();
+        
+        BulkTaskResponse.ItemResult[] sonuclar = new BulkTaskResponse.ItemResult[parca.size()];
+        List<Integer> gecerliSiralar = new ArrayList<>();
+        for (int i = 0; i < parca.size(); i++) {
+            String hata = okunamayanlar.containsKey(i)
+                    ? okunamayanlar.get(i) : dogrula(parca.get(i), mevcutKullanicilar, mevcutGorevler);
+            if (hata != null) {
+                sonuclar[i] = new BulkTaskResponse.ItemResult(baslangicIndex + i, false, null, hata);
+            } else {
+                gecerliSiralar.add(i);
+            }
+        }
+        
+        if (!gecerliSiralar.isEmpty()) {
+            try {
+                List<GorevYapisi> kaydedilenler = transactionTemplate.execute(status -> {
+                    List<GorevYapisi> yeniGorevler = new ArrayList<>(gecerliSiralar.size());
+                    for (int i : gecerliSiralar) {
+                        GorevYapisi yeniGorev = topluEntityOlustur(parca.get(i));
+                        taskTree.assignPath(yeniGorev, ustGorevPathleri);
+                        yeniGorevler.add(yeniGorev);
+                    }
+                    List<GorevYapisi> sonuc = gorevRepository.saveAll(yeniGorevler);
+                    // Parçalar arasında persistence context büyümesin
+                    entityManager.flush();
+                    entityManager.clear();
+                    return sonuc;
+                });
+                for (int k = 0; k < gecerliSiralar.size(); k++) {
+                    int i = gecerliSiralar.get(k);
+                    GorevYapisi gorev = kaydedilenler.get(k);
+                    sonuclar[i] = new BulkTaskResponse.ItemResult(baslangicIndex + i, true, gorev.getGorevid(), null);
+                    statsCache.invalidate(gorev.getUserid());
+                    taskTree.taskAdded(gorev);
+                    searchIndex.taskSaved(gorev);
+                    taskVersions.taskChanged(gorev);
+                    taskEvents.publish(TaskEventDto.Type.TASK_CREATED, gorev);
+                }
+            } catch (Exception e) {
+                for (int i : gecerliSiralar) {
+                    sonuclar[i] = new BulkTaskResponse.ItemResult(baslangicIndex + i, false, null,
+                            "Kaydedilemedi: " + e.getMessage());
+                }
+            }
+        }
+        
+        return List.of(sonuclar);
+    }
+    
+    /**
+     * Toplu eklemede tek görevin referanslarını kontrol et
+     * @return Hata mesajı, geçerliyse null
+     */
+    private String dogrula(GorevDto dto, Set<Long> mevcutKullanicilar, Set<Long> mevcutGorevler) {
+        if (dto == null) {
+            return "Görev boş olamaz";
+        }
+        if (dto.getUserid() == null || !mevcutKullanicilar.contains(dto.getUserid())) {
+            return "Kullanıcı bulunamadı: " + dto.getUserid();
+        }
+        if (dto.getAssignedById() != null && !mevcutKullanicilar.contains(dto.getAssignedById())) {
+            return "Atayan kullanıcı bulunamadı: " + dto.getAssignedById();
+        }
+        if (dto.getParentTaskId() != null && !mevcutGorevler.contains(dto.getParentTaskId())) {
+            return "Üst görev bulunamadı: " + dto.getParentTaskId();
+        }
+        return null;
+    }
+    
+    /**
+     * Doğrulanmış DTO'dan entity oluştur; ilişkiler ek SELECT yapmadan referans olarak bağlanır
+     */
+    private GorevYapisi topluEntityOlustur(GorevDto dto) {
+        GorevYapisi gorev = new GorevYapisi();
+        gorev.setIsim(dto.getIsim());
+        gorev.setDescription(dto.getDescription());
+        gorev.setPriority(dto.getPriority());
+        gorev.setStatus(dto.getStatus() == null || dto.getStatus().isEmpty() ? "PENDING" : dto.getStatus());
+        gorev.setReportedToDirector(false);
+        gorev.setUser(userRepository.getReferenceById(dto.getUserid()));
+        if (dto.getAssignedById() != null) {
+            gorev.setAssignedBy(userRepository.getReferenceById(dto.getAssignedById()));
+        }
+        if (dto.getParentTaskId() != null) {
+            gorev.setParentTask(gorevRepository.getReferenceById(dto.getParentTaskId()));
+        }
+        return gorev;
+    }
+    
     /**
      * Görev silme işlemi
      * @param gorevId Silinecek görevin ID'si
@@ -59,8 +266,15 @@ public class GorevService {
     public boolean gorevSil(Long gorevId) {
         try {
             // Görevin var olup olmadığını kontrol et
-            if (gorevRepository.existsById(gorevId)) {
-                gorevRepository.deleteById(gorevId);
+            var gorevOptional = gorevRepository.findById(gorevId);
+            if (gorevOptional.isPresent()) {
+                GorevYapisi gorev = gorevOptional.get();
+                gorevRepository.delete(gorev);
+                statsCache.invalidate(gorev.getUserid());
+                taskTree.taskRemoved(gorev);
+                searchIndex.taskRemoved(gorev.getGorevid());
+                taskVersions.taskChanged(gorev);
+                taskEvents.publish(TaskEventDto.Type.TASK_DELETED, gorev);
                 return true;
             }
             return false; // Görev bulunamadı
@@ -82,6 +296,8 @@ public class GorevService {
             
             if (mevcutGorevOptional.isPresent()) {
                 GorevYapisi mevcutGorev = mevcutGorevOptional.get();
+                Long eskiKullanici = mevcutGorev.getUserid();
+                String eskiDurum = mevcutGorev.getStatus();
                 
                 // Sadece null olmayan alanları güncelle
                 if (gorevDto.getIsim() != null) {
@@ -102,6 +318,14 @@ public class GorevService {
                 
                 // Güncellenen görevi kaydet
                 GorevYapisi guncellenenGorev = gorevRepository.save(mevcutGorev);
+                statsCache.invalidate(eskiKullanici, guncellenenGorev.getUserid());
+                taskTree.statusChanged(guncellenenGorev, eskiDurum);
+                searchIndex.taskSaved(guncellenenGorev);
+                taskVersions.taskChanged(eskiKullanici, null);
+                taskVersions.taskChanged(guncellenenGorev);
+                taskEvents.publish(Objects.equals(eskiDurum, guncellenenGorev.getStatus())
+                        ? TaskEventDto.Type.TASK_UPDATED : TaskEventDto.Type.STATUS_CHANGED,
+                    guncellenenGorev, eskiKullanici);
                 
                 return GorevDto.fromEntity(guncellenenGorev);
             }
@@ -112,36 +336,80 @@ public class GorevService {
     }
     
     /**
-     * Tüm görevleri listeleme işlemi (Admin yetkisi)
-     * @return Tüm görevlerin DTO listesi
+     * Görev adı ve açıklamasında arama (bellek içi index, puana göre sıralı)
+     * Direktör tüm görevleri, müdür kendi görevlerini, atadıklarını ve ekibinin görevlerini,
+     * ekip üyesi sadece kendi görevlerini görür.
+     * @param sorgu Aranacak kelimeler (hepsi eşleşmeli, son harfler eksik olabilir)
+     * @param sayfa 0'dan başlayan sayfa numarası
+     * @param boyut Sayfa boyutu
      */
-    public List<GorevDto> tumGorevleriGetir() {
-        try {
-            // Tüm görevleri getir
-            List<GorevYapisi> gorevListesi = gorevRepository.findAll();
-            
-            // Entity'leri DTO'ya dönüştür
-            return gorevListesi.stream()
-                    .map(GorevDto::fromEntity)
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            return List.of(); // Hata durumunda boş liste döndür
+    public TaskSearchResponse gorevAra(String sorgu, SessionPrincipal kullanici, Integer sayfa, Integer boyut) {
+        int sayfaBoyutu = (boyut == null || boyut <= 0) ? VARSAYILAN_ARAMA_BOYUTU : Math.min(boyut, MAKSIMUM_ARAMA_BOYUTU);
+        int sayfaNo = (sayfa == null || sayfa < 0) ? 0 : sayfa;
+        int baslangic = (int) Math.min((long) sayfaNo * sayfaBoyutu, MAKSIMUM_ARAMA_SONUCU);
+        int adet = Math.max(0, Math.min(sayfaBoyutu, MAKSIMUM_ARAMA_SONUCU - baslangic));
+        
+        Long kullaniciId = kullanici.getUserId();
+        BiPredicate<Long, Long> gorebilir;
+        if (kullanici.isDirector()) {
+            gorebilir = (sahip, atayan) -> true;
+        } else if (kullanici.isManager()) {
+            gorebilir = (sahip, atayan) -> kullaniciId.equals(sahip) || kullaniciId.equals(atayan)
+                    || hierarchy.isMemberOf(kullaniciId, sahip);
+        } else {
+            gorebilir = (sahip, atayan) -> kullaniciId.equals(sahip);
+        }
+        
+        TaskSearchIndex.Hits sonuc = searchIndex.search(sorgu, gorebilir, baslangic, adet);
+        List<GorevDto> gorevler = List.of();
+        if (!sonuc.gorevIds().isEmpty()) {
+            // Sayfadaki görevler tek sorguda okunur, index sırasına dizilir (arada silinenler atlanır)
+            Map<Long, GorevDto> bulunanlar = new HashMap<>();
+            for (GorevDto gorev : gorevRepository.findDtosByGorevidIn(sonuc.gorevIds())) {
+                bulunanlar.put(gorev.getGorevid(), gorev);
+            }
+            gorevler = sonuc.gorevIds().stream()
+                    .map(bulunanlar::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+        boolean devami = baslangic + adet < Math.min(sonuc.total(), MAKSIMUM_ARAMA_SONUCU);
+        return new TaskSearchResponse(gorevler, sonuc.total(), sayfaNo, sayfaBoyutu, devami);
+    }
+    
+    /**
+     * Görevleri keyset (gorevid) sayfalama ile getir
+     * @param cursor Önceki sayfanın nextCursor değeri (ilk sayfa için null)
+     * @param size Sayfa boyutu
+     * @return Görevler ve sonraki sayfanın cursor'ı
+     */
+    @Transactional(readOnly = true)
+    public GorevPageResponse gorevleriSayfaliGetir(Long cursor, Integer size) {
+        int sayfaBoyutu = (size == null || size <= 0) ? VARSAYILAN_SAYFA_BOYUTU : Math.min(size, MAKSIMUM_SAYFA_BOYUTU);
+        long baslangic = cursor != null ? cursor : 0L;
+        
+        // Bir fazla kayıt çekilir; fazladan kayıt varsa sonraki sayfa mevcuttur
+        List<GorevDto> items = gorevRepository.findDtoPageAfter(baslangic, Limit.of(sayfaBoyutu + 1));
+        boolean devamiVar = items.size() > sayfaBoyutu;
+        if (devamiVar) {
+            items = items.subList(0, sayfaBoyutu);
+        }
+        
+        Long nextCursor = devamiVar ? items.get(items.size() - 1).getGorevid() : null;
+        
+        return new GorevPageResponse(items, nextCursor, devamiVar);
+    }
+    
+    /**
+     * Tüm görevleri tek tek okuyup tüketiciye aktarır (Admin yetkisi)
+     * Satırlar doğrudan DTO projeksiyonu olarak okunur; entity ve ilişki proxy'leri persistence
+     * context'e girmediği için tablo boyutundan bağımsız olarak bellek kullanımı sabit kalır.
+     * @param tuketici Her görev DTO'su için çağrılacak fonksiyon
+     */
+    @Transactional(readOnly = true)
+    public void tumGorevleriAkisla(Consumer<GorevDto> tuketici) {
+        try (Stream<GorevDto> gorevAkisi = gorevRepository.streamAllDtos()) {
+            gorevAkisi.forEach(tuketici);
         }
     }
 }
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
@@ -0,0 +1,52 @@
+package com.erdemirProje.gorevTakip.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bellek içi oturum deposu (varsayılan)
+ * Sadece çıkış yapılmış (veya kullanıcısı silinmiş/değiştirilmiş) ve henüz süresi dolmamış
+ * token'lar tutulur; süresi dolan kayıtlar periyodik olarak temizlendiği için liste küçük kalır.
+ * Uygulama yeniden başlatıldığında içerik kaybolur.
+ */
+public class InMemorySessionStore implements SessionStore {
+
+    // tokenId -> token'ın kendi bitiş zamanı
+    protected final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    // userId -> bu andan önce (veya bu anda) üretilen token'lar geçersiz
+    protected final Map<Long, Long> revokedUsers = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean revokeToken(String tokenId, long expiresAt) {
+        return revokedTokens.putIfAbsent(tokenId, expiresAt) == null;
+    }
+
+    @Override
+    public void revokeUser(Long userId, long revokedAt) {
+        revokedUsers.merge(userId, revokedAt, Math::max);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId, Long userId, long issuedAt) {
+        Long userRevokedAt = revokedUsers.get(userId);
+        return revokedTokens.containsKey(tokenId)
+            || (userRevokedAt != null && issuedAt <= userRevokedAt);
+    }
+
+    @Override
+    public void removeExpired(long now, long tokenTtlMillis) {
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedUsers.values().removeIf(revokedAt -> revokedAt + tokenTtlMillis <= now);
+    }
+
+    @Override
+    public int getRevokedTokenCount() {
+        return revokedTokens.size();
+    }
+
+    @Override
+    public int getRevokedUserCount() {
+        return revokedUsers.size();
+    }
+}
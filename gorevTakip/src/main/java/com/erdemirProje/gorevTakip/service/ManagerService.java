@@ -1,71 +1,63 @@
 package com.erdemirProje.gorevTakip.service;
 
 import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.ReportResultDto;
+import com.erdemirProje.gorevTakip.dto.TaskEventDto;
+import com.erdemirProje.gorevTakip.dto.TeamPerformanceDto;
 import com.erdemirProje.gorevTakip.dto.UserDto;
 import com.erdemirProje.gorevTakip.entity.GorevYapisi;
 import com.erdemirProje.gorevTakip.entity.User;
 import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
 import com.erdemirProje.gorevTakip.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ManagerService {
     
     private final UserRepository userRepository;
     private final GorevYapisiRepository gorevRepository;
+    private final UserTaskStatsCache statsCache;
+    private final UserCacheService userCache;
+    private final OrgHierarchyIndex hierarchy;
+    private final TaskVersionStamps taskVersions;
+    private final TaskEventBroker taskEvents;
+    private final TaskTreeService taskTree;
+    private final TaskSearchIndex searchIndex;
+    
+    // Toplu raporlamada tek sorguya verilecek en fazla görev id'si
+    private static final int REPORT_CHUNK_SIZE = 1000;
     
     /**
      * Müdürün kendi ekip üyelerini getir
+     * Müdür rolü controller'da oturum bilgisinden doğrulanır, burada tekrar okunmaz
+     * Ekip hiyerarşi index'inden, kullanıcı bilgileri önbellekten okunur
      */
     public List<UserDto> getTeamMembers(Long managerId) {
         try {
-            System.out.println("🔍 ManagerService.getTeamMembers çağrıldı - managerId: " + managerId);
-            
-            // Müdürün mevcut olduğunu kontrol et
-            Optional<User> managerOpt = userRepository.findById(managerId);
-            if (managerOpt.isEmpty()) {
-                System.out.println("❌ Müdür bulunamadı: " + managerId);
-                return List.of();
-            }
-            
-            User manager = managerOpt.get();
-            System.out.println("✅ Müdür bulundu: " + manager.getUsername() + " - " + manager.getRole());
-            
-            if (!manager.isManager()) {
-                System.out.println("❌ Kullanıcı müdür değil: " + manager.getRole());
-                return List.of();
-            }
-            
             // Bu müdüre bağlı ekip üyelerini getir
-            List<User> teamMembers = userRepository.findByManagerId(managerId);
-            System.out.println("🔍 Bulunan ekip üyesi sayısı: " + teamMembers.size());
+            long[] teamMemberIds = hierarchy.getMemberIds(managerId);
+            log.debug("Ekip üyeleri - managerId: {}, üye sayısı: {}", managerId, teamMemberIds.length);
             
-            for (User member : teamMembers) {
-                System.out.println("👤 Ekip üyesi: " + member.getUsername() + " - " + member.getRole() + " - Manager ID: " + (member.getManager() != null ? member.getManager().getId() : "null"));
-            }
-            
-            // Debug: Ekip üyesi sayısı kontrolü
-            System.out.println("🔍 Debug: Tüm ekip üyelerini kontrol et");
-            List<User> allTeamMembers = userRepository.findByRole(User.Role.TEAM_MEMBER);
-            System.out.println("   📊 Toplam ekip üyesi sayısı: " + allTeamMembers.size());
-            for (User member : allTeamMembers) {
-                System.out.println("   👤 ID: " + member.getId() + " | Username: " + member.getUsername() + " | Manager: " + (member.getManager() != null ? member.getManager().getUsername() + " (ID: " + member.getManager().getId() + ")" : "null"));
+            if (teamMemberIds.length == 0) {
+                return List.of();
             }
-            
-            return teamMembers.stream()
-                    .map(UserDto::fromEntity)
-                    .collect(Collectors.toList());
+            return userCache.findUsers(teamMemberIds);
                     
         } catch (Exception e) {
-            System.out.println("❌ Ekip üyeleri getirilirken hata: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Ekip üyeleri getirilirken hata: {}", e.getMessage(), e);
             return List.of();
         }
     }
@@ -76,67 +68,72 @@ public class ManagerService {
     public List<GorevDto> getTeamTasks(Long managerId) {
         try {
             // Sadece bu müdürün atadığı ekip üyesi görevleri (direktör görmemeli)
-            List<GorevYapisi> teamTasks = gorevRepository.findManagerAssignedTeamTasks(managerId);
-
-            return teamTasks.stream()
-                    .map(this::convertToDto)
-                    .collect(Collectors.toList());
+            return gorevRepository.findManagerAssignedTeamTaskDtos(managerId);
                     
         } catch (Exception e) {
-            System.out.println("❌ Ekip görevleri getirilirken hata: " + e.getMessage());
+            log.error("Ekip görevleri getirilirken hata: {}", e.getMessage(), e);
             return List.of();
         }
     }
     
     /**
      * Müdür ekip üyesine görev atar
+     * @param managerId Görevi atayan (oturumdaki) müdür; hedef kullanıcı bu müdürün ekibinde olmalı
      */
-    public GorevDto assignTaskToTeamMember(GorevDto gorevDto) {
+    public GorevDto assignTaskToTeamMember(Long managerId, GorevDto gorevDto) {
         try {
-            System.out.println("🔍 ManagerService.assignTaskToTeamMember çağrıldı");
-            System.out.println("📝 Görev Bilgileri: " + gorevDto.getIsim() + " -> User ID: " + gorevDto.getUserid());
+            log.debug("Görev Bilgileri: {} -> User ID: {}", gorevDto.getIsim(), gorevDto.getUserid());
             
-            // Hedef kullanıcının müdürün ekibinde olduğunu kontrol et
-            Optional<User> targetUserOpt = userRepository.findById(gorevDto.getUserid());
-            if (targetUserOpt.isEmpty()) {
-                System.out.println("❌ Hedef kullanıcı bulunamadı: " + gorevDto.getUserid());
+            // Hedef kullanıcının müdürün ekibinde olduğunu kontrol et (önbellekten)
+            UserDto targetUser = gorevDto.getUserid() != null ? userCache.findUser(gorevDto.getUserid()) : null;
+            if (targetUser == null) {
+                log.warn("Hedef kullanıcı bulunamadı: {}", gorevDto.getUserid());
                 return null;
             }
             
-            User targetUser = targetUserOpt.get();
-            System.out.println("✅ Hedef kullanıcı bulundu: " + targetUser.getUsername() + " - " + targetUser.getRole());
+            log.debug("Hedef kullanıcı bulundu: {} - {}", targetUser.getUsername(), targetUser.getRole());
             
-            if (targetUser.getManager() == null) {
-                System.out.println("❌ Kullanıcının müdürü yok: " + gorevDto.getUserid());
+            if (targetUser.getManagerId() == null) {
+                log.warn("Kullanıcının müdürü yok: {}", gorevDto.getUserid());
                 return null;
             }
             
-            System.out.println("✅ Kullanıcının müdürü: " + targetUser.getManager().getUsername());
+            if (!targetUser.getManagerId().equals(managerId)) {
+                log.warn("Kullanıcı bu müdürün ekibinde değil: {}", gorevDto.getUserid());
+                return null;
+            }
             
             // Yeni görev oluştur (child görev)
             GorevYapisi newTask = new GorevYapisi();
             newTask.setIsim(gorevDto.getIsim());
             newTask.setDescription(gorevDto.getDescription());
-            newTask.setUser(targetUser); // User entity'yi doğrudan ata
+            newTask.setUser(userRepository.getReferenceById(targetUser.getId())); // Sadece FK için referans
             newTask.setPriority(gorevDto.getPriority());
             newTask.setStatus(gorevDto.getStatus() != null ? gorevDto.getStatus() : "PENDING");
             
             // Kapsülleme: bu görevi atayan müdür, hedef kullanıcının mevcut müdürü
-            newTask.setAssignedBy(targetUser.getManager());
+            newTask.setAssignedBy(userRepository.getReferenceById(targetUser.getManagerId()));
             
             // Eğer DTO parentTaskId taşırsa bağla
             if (gorevDto.getParentTaskId() != null) {
                 gorevRepository.findById(gorevDto.getParentTaskId()).ifPresent(newTask::setParentTask);
             }
+            taskTree.assignPath(newTask);
             
             // Veritabanına kaydet
             GorevYapisi savedTask = gorevRepository.save(newTask);
-            
-            System.out.println("✅ Müdür görev atadı: " + savedTask.getIsim() + " -> " + targetUser.getUsername());
+            statsCache.invalidate(targetUser.getId());
+            taskTree.taskAdded(savedTask);
+            searchIndex.taskSaved(savedTask);
+            taskVersions.taskChanged(targetUser.getId(), targetUser.getManagerId());
+            taskEvents.publish(TaskEventDto.Type.TASK_CREATED, savedTask.getGorevid(), targetUser.getId(),
+                targetUser.getManagerId(), savedTask.getStatus());
+            
+            log.debug("Müdür görev atadı: {} -> {}", savedTask.getIsim(), targetUser.getUsername());
             return convertToDto(savedTask);
             
         } catch (Exception e) {
-            System.out.println("❌ Görev atanırken hata: " + e.getMessage());
+            log.error("Görev atanırken hata: {}", e.getMessage(), e);
             return null;
         }
     }
@@ -147,64 +144,77 @@ public class ManagerService {
     public List<GorevDto> getManagerTasks(Long managerId) {
         try {
             // Müdürün kendi görevleri + kendi atadığı child görevler
-            List<GorevYapisi> managerTasks = gorevRepository.findManagerVisibleTasks(managerId);
-            return managerTasks.stream()
-                    .map(this::convertToDto)
-                    .collect(Collectors.toList());
+            return gorevRepository.findManagerVisibleTaskDtos(managerId);
         } catch (Exception e) {
-            System.out.println("❌ Müdür görevleri getirilirken hata: " + e.getMessage());
+            log.error("Müdür görevleri getirilirken hata: {}", e.getMessage(), e);
             return List.of();
         }
     }
     
     /**
      * Müdürün ekip performans özeti
+     * Görevler listelenmeden, durum bazlı tek bir GROUP BY sorgusu ve ekip sayısı ile hesaplanır
+     * Müdür bulunamazsa (veya müdür rolünde değilse) null döner
      */
-    public Map<String, Object> getTeamPerformance(Long managerId) {
+    public TeamPerformanceDto getTeamPerformance(Long managerId) {
         try {
-            List<GorevDto> teamTasks = getTeamTasks(managerId);
-            List<UserDto> teamMembers = getTeamMembers(managerId);
-            
-            long completedTasks = teamTasks.stream()
-                    .filter(task -> "COMPLETED".equals(task.getStatus()))
-                    .count();
-            
-            long inProgressTasks = teamTasks.stream()
-                    .filter(task -> "IN_PROGRESS".equals(task.getStatus()))
-                    .count();
-            
-            long pendingTasks = teamTasks.stream()
-                    .filter(task -> "PENDING".equals(task.getStatus()))
-                    .count();
-            
-            return Map.of(
-                "totalTeamMembers", teamMembers.size(),
-                "totalTasks", teamTasks.size(),
-                "completedTasks", completedTasks,
-                "inProgressTasks", inProgressTasks,
-                "pendingTasks", pendingTasks,
-                "completionRate", teamTasks.isEmpty() ? 0 : (completedTasks * 100.0 / teamTasks.size())
+            if (!userRepository.existsByIdAndRole(managerId, User.Role.MANAGER)) {
+                return null;
+            }
+            
+            long completedTasks = 0;
+            long inProgressTasks = 0;
+            long pendingTasks = 0;
+            long totalTasks = 0;
+            
+            for (GorevYapisiRepository.StatusCount statusCount : gorevRepository.countManagerAssignedTeamTasksByStatus(managerId)) {
+                long count = statusCount.getCount();
+                totalTasks += count;
+                if ("COMPLETED".equals(statusCount.getStatus())) {
+                    completedTasks = count;
+                } else if ("IN_PROGRESS".equals(statusCount.getStatus())) {
+                    inProgressTasks = count;
+                } else if ("PENDING".equals(statusCount.getStatus())) {
+                    pendingTasks = count;
+                }
+            }
+            
+            long totalTeamMembers = hierarchy.countMembers(managerId);
+            
+            return new TeamPerformanceDto(
+                totalTeamMembers,
+                totalTasks,
+                completedTasks,
+                inProgressTasks,
+                pendingTasks,
+                totalTasks == 0 ? 0 : (completedTasks * 100.0 / totalTasks)
             );
         } catch (Exception e) {
-            System.out.println("❌ Ekip performansı hesaplanırken hata: " + e.getMessage());
-            return Map.of();
+            log.error("Ekip performansı hesaplanırken hata: {}", e.getMessage(), e);
+            return TeamPerformanceDto.empty();
         }
     }
     
     /**
-     * Müdür ekibindeki görev günceller
+     * Müdür ekibindeki görev günceller (sadece bu müdürün atadığı görevler)
      */
-    public GorevDto updateTeamTask(Long taskId, GorevDto gorevDto) {
+    public GorevDto updateTeamTask(Long managerId, Long taskId, GorevDto gorevDto) {
         try {
-            System.out.println("🔄 Görev güncelleniyor - Task ID: " + taskId);
+            log.debug("Görev güncelleniyor - Task ID: {}", taskId);
             
             Optional<GorevYapisi> taskOpt = gorevRepository.findById(taskId);
             if (taskOpt.isEmpty()) {
-                System.out.println("❌ Görev bulunamadı: " + taskId);
+                log.warn("Görev bulunamadı: {}", taskId);
                 return null;
             }
             
             GorevYapisi existingTask = taskOpt.get();
+            if (!isAssignedBy(existingTask, managerId)) {
+                log.warn("Görev bu müdür tarafından atanmamış: {}", taskId);
+                return null;
+            }
+            Long oldUserId = existingTask.getUserid();
+            String oldStatus = existingTask.getStatus();
             
             // Güncelle
             existingTask.setIsim(gorevDto.getIsim());
@@ -215,53 +225,69 @@ public class ManagerService {
             
             // Yeni kullanıcı atanıyorsa güncelle
             if (gorevDto.getUserid() != null && !gorevDto.getUserid().equals(existingTask.getUser().getId())) {
-                Optional<User> newUserOpt = userRepository.findById(gorevDto.getUserid());
-                if (newUserOpt.isPresent()) {
-                    existingTask.setUser(newUserOpt.get());
-                    System.out.println("🔄 Görev yeni kullanıcıya atandı: " + newUserOpt.get().getUsername());
+                UserDto newUser = userCache.findUser(gorevDto.getUserid());
+                if (newUser != null && managerId.equals(newUser.getManagerId())) {
+                    existingTask.setUser(userRepository.getReferenceById(newUser.getId()));
+                    log.debug("Görev yeni kullanıcıya atandı: {}", newUser.getUsername());
                 }
             }
             
             GorevYapisi savedTask = gorevRepository.save(existingTask);
-            System.out.println("✅ Görev başarıyla güncellendi");
+            statsCache.invalidate(oldUserId, savedTask.getUserid());
+            taskTree.statusChanged(savedTask, oldStatus);
+            searchIndex.taskSaved(savedTask);
+            taskVersions.taskChanged(oldUserId, null);
+            taskVersions.taskChanged(savedTask.getUserid(), managerId);
+            taskEvents.publish(TaskEventDto.Type.TASK_UPDATED, savedTask.getGorevid(), savedTask.getUserid(),
+                managerId, savedTask.getStatus(), oldUserId);
+            log.debug("Görev başarıyla güncellendi");
             
             return convertToDto(savedTask);
             
         } catch (Exception e) {
-            System.out.println("❌ Görev güncellenirken hata: " + e.getMessage());
+            log.error("Görev güncellenirken hata: {}", e.getMessage(), e);
             return null;
         }
     }
     
     /**
-     * Müdür ekibindeki görev siler
+     * Müdür ekibindeki görev siler (sadece bu müdürün atadığı görevler)
      */
-    public boolean deleteTeamTask(Long taskId) {
+    public boolean deleteTeamTask(Long managerId, Long taskId) {
         try {
-            System.out.println("🗑️ Görev siliniyor - Task ID: " + taskId);
+            log.debug("Görev siliniyor - Task ID: {}", taskId);
             
             Optional<GorevYapisi> taskOpt = gorevRepository.findById(taskId);
             if (taskOpt.isEmpty()) {
-                System.out.println("❌ Görev bulunamadı: " + taskId);
+                log.warn("Görev bulunamadı: {}", taskId);
                 return false;
             }
             
             GorevYapisi task = taskOpt.get();
+            if (!isAssignedBy(task, managerId)) {
+                log.warn("Görev bu müdür tarafından atanmamış: {}", taskId);
+                return false;
+            }
             
             // Görev durumunu kontrol et - sadece başlamamış görevler silinebilir
             if ("IN_PROGRESS".equals(task.getStatus()) || "COMPLETED".equals(task.getStatus())) {
-                System.out.println("❌ Bu görev başlamış veya tamamlanmış, silinemez: " + taskId + " - Status: " + task.getStatus());
+                log.warn("Bu görev başlamış veya tamamlanmış, silinemez: {} - Status: {}", taskId, task.getStatus());
                 return false;
             }
             
             // Görevi sil
             gorevRepository.deleteById(taskId);
-            System.out.println("✅ Görev başarıyla silindi: " + task.getIsim());
+            statsCache.invalidate(task.getUserid());
+            taskTree.taskRemoved(task);
+            searchIndex.taskRemoved(taskId);
+            taskVersions.taskChanged(task.getUserid(), managerId);
+            taskEvents.publish(TaskEventDto.Type.TASK_DELETED, taskId, task.getUserid(), managerId, task.getStatus());
+            log.debug("Görev başarıyla silindi: {}", task.getIsim());
             
             return true;
             
         } catch (Exception e) {
-            System.out.println("❌ Görev silinirken hata: " + e.getMessage());
+            log.error("Görev silinirken hata: {}", e.getMessage(), e);
             return false;
         }
     }
@@ -273,34 +299,23 @@ public class ManagerService {
      */
     public List<GorevDto> getCompletedTasks(Long managerId) {
         try {
-            System.out.println("✅ Tamamlanan görevler getiriliyor - Manager ID: " + managerId);
-            
-            // Müdürün ekip üyelerini al
-            List<User> teamMembers = userRepository.findByManagerId(managerId);
+            log.debug("Tamamlanan görevler getiriliyor - Manager ID: {}", managerId);
             
-            if (teamMembers.isEmpty()) {
-                System.out.println("ℹ️ Müdürün ekip üyesi yok");
+            // Ekip boşsa veritabanına gitme
+            if (hierarchy.countMembers(managerId) == 0) {
+                log.debug("Müdürün ekip üyesi yok");
                 return List.of();
             }
             
-            // Ekip üyelerinin ID'lerini topla
-            List<Long> teamMemberIds = teamMembers.stream()
-                    .map(User::getId)
-                    .collect(Collectors.toList());
-            
-            System.out.println("👥 Ekip üye ID'leri: " + teamMemberIds);
-            
-            // Bu ekip üyelerinin COMPLETED görevlerini getir
-            List<GorevYapisi> completedTasks = gorevRepository.findByUserIdInAndStatus(teamMemberIds, "COMPLETED");
+            // Ekip üyelerinin COMPLETED görevleri (manager_id üzerinden join, id listesi yok)
+            List<GorevDto> completedTasks = gorevRepository.findTeamTaskDtosByManagerIdAndStatus(managerId, "COMPLETED");
             
-            System.out.println("✅ Bulunan tamamlanmış görev sayısı: " + completedTasks.size());
+            log.debug("Bulunan tamamlanmış görev sayısı: {}", completedTasks.size());
             
-            return completedTasks.stream()
-                    .map(this::convertToDto)
-                    .collect(Collectors.toList());
+            return completedTasks;
                     
         } catch (Exception e) {
-            System.out.println("❌ Tamamlanmış görevler getirilirken hata: " + e.getMessage());
+            log.error("Tamamlanmış görevler getirilirken hata: {}", e.getMessage(), e);
             return List.of();
         }
     }
@@ -310,43 +325,63 @@ public class ManagerService {
     // reportTasksToDirector kaldırıldı
     /**
      * Tamamlanan ekip üyesi görevlerini direktöre rapor et
+     * Uygun görevler tek transaction içinde kilitlenip toplu bir UPDATE ile işaretlenir
+     * @return Rapor edilen ve kriterleri sağlamadığı için reddedilen görev id'leri, hata durumunda null
      */
-    public boolean reportTasksToDirector(Long managerId, List<Long> taskIds) {
+    @Transactional
+    public ReportResultDto reportTasksToDirector(Long managerId, List<Long> taskIds) {
         try {
-            System.out.println("📊 (COMPLETED) Görevler direktöre rapor ediliyor - Manager ID: " + managerId);
-            System.out.println("📝 Rapor edilecek görev ID'leri: " + taskIds);
+            log.debug("(COMPLETED) Görevler direktöre rapor ediliyor - Manager ID: {}", managerId);
+            log.debug("Rapor edilecek görev ID'leri: {}", taskIds);
 
-            for (Long taskId : taskIds) {
-                Optional<GorevYapisi> taskOpt = gorevRepository.findById(taskId);
-                if (taskOpt.isEmpty()) {
-                    System.out.println("❌ Görev bulunamadı: " + taskId);
-                    continue;
-                }
+            List<Long> requestedIds = taskIds.stream().distinct().collect(Collectors.toList());
+            List<Long> reportedIds = new ArrayList<>();
 
-                GorevYapisi task = taskOpt.get();
+            // SQL Server parametre sınırına takılmamak için parçalar halinde işlenir
+            for (int from = 0; from < requestedIds.size(); from += REPORT_CHUNK_SIZE) {
+                List<Long> chunk = requestedIds.subList(from, Math.min(from + REPORT_CHUNK_SIZE, requestedIds.size()));
 
                 // Şartlar: görev tamamlanmış olmalı ve bu müdür tarafından atanmış bir ekip üyesi görevi olmalı
-                boolean isCompleted = "COMPLETED".equals(task.getStatus());
-                boolean assignedByManager = task.getAssignedBy() != null && task.getAssignedBy().getId().equals(managerId);
-                boolean isTeamMemberTask = task.getUser() != null && task.getUser().getRole() == User.Role.TEAM_MEMBER;
-
-                if (isCompleted && assignedByManager && isTeamMemberTask) {
-                    task.setReportedToDirector(true);
-                    gorevRepository.save(task);
-                    System.out.println("✅ Görev direktöre rapor edildi: " + task.getIsim());
-                } else {
-                    System.out.println("⚠️ Rapor kriterlerini sağlamayan görev: " + task.getIsim());
+                // Uygun satırlar kilitlenir, UPDATE aynı şartlarla sadece bu satırları işaretler
+                List<Long> eligibleIds = gorevRepository.lockReportableTaskIds(managerId, chunk);
+                if (!eligibleIds.isEmpty()) {
+                    int updated = gorevRepository.markReportedToDirector(managerId, eligibleIds);
+                    if (updated != eligibleIds.size()) {
+                        // Kilide rağmen satırlar değiştiyse rapor listesi güvenilir değil; transaction geri alınır
+                        throw new IllegalStateException("Rapor edilen görev sayısı uyuşmuyor: beklenen "
+                                + eligibleIds.size() + ", güncellenen " + updated);
+                    }
+                    reportedIds.addAll(eligibleIds);
                 }
             }
 
-            System.out.println("✅ Rapor işlemi tamamlandı");
-            return true;
+            Set<Long> reportedSet = new HashSet<>(reportedIds);
+            List<Long> rejectedIds = requestedIds.stream()
+                    .filter(id -> !reportedSet.contains(id))
+                    .collect(Collectors.toList());
+
+            if (!reportedIds.isEmpty()) {
+                // Rapor edilen görevler bu müdürün ekip üyelerine ait
+                long[] teamMemberIds = hierarchy.getMemberIds(managerId);
+                taskVersions.managerTasksChanged(managerId, teamMemberIds);
+                taskEvents.reported(managerId, reportedIds, teamMemberIds);
+            }
+            if (!rejectedIds.isEmpty()) {
+                log.warn("Rapor kriterlerini sağlamayan görevler: {}", rejectedIds);
+            }
+            log.debug("Rapor işlemi tamamlandı - rapor edilen: {}", reportedIds.size());
+            return new ReportResultDto(reportedIds, rejectedIds);
         } catch (Exception e) {
-            System.out.println("❌ Rapor gönderilirken hata: " + e.getMessage());
-            return false;
+            log.error("Rapor gönderilirken hata: {}", e.getMessage(), e);
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return null;
         }
     }
     
+    private boolean isAssignedBy(GorevYapisi task, Long managerId) {
+        return task.getAssignedBy() != null && task.getAssignedBy().getId().equals(managerId);
+    }
+    
     /**
      * GorevYapisi -> GorevDto dönüştürücü
      */
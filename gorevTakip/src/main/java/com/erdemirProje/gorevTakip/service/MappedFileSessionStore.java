@@ -0,0 +1,278 @@
+package com.erdemirProje.gorevTakip.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Yeniden başlatmalarda korunan, bellek eşlemeli (memory-mapped) dosya tabanlı oturum deposu
+ * Okumalar bellekteki haritalardan yapılır; her geçersiz kılma sadece dosyanın sonuna eklenir ve
+ * eklenen aralık hemen diske yazdırılır (force), yani çöküşte de kaybolmaz. Geçersiz kılma seyrek
+ * (çıkış, kullanıcı silme / değiştirme) olduğundan bu maliyet token doğrulama yoluna yansımaz.
+ * Açılışta dosya tek geçişte okunur, süresi dolmuş kayıtlar atlanır.
+ *
+ * Dosyalar: sessions-a.log / sessions-b.log (sıkıştırmada dönüşümlü kullanılır)
+ * Başlık: magic(4) | version(4) | generation(8); geçerli başlığa sahip en yüksek generation aktiftir.
+ * Kayıtlar: [1 | uzunluk(1) | tokenId | expiresAt(8)] veya [2 | userId(8) | revokedAt(8)], 0 ile biter.
+ *
+ * Sıkıştırma, canlı kayıtları diğer dosyaya yazıp başlığını en son yazar; böylece yarıda kesilen
+ * bir sıkıştırma aktif dosyayı bozmaz. Canlı kayıtlar dosyaya sığmazsa sığmayanlar sadece bellekte
+ * kalır (yeniden başlatmada kaybolur); bu durum loglanır ve {@link #isFull()} true döner.
+ * Dosyalar yer değiştirilmeden / silinmeden kullanıldığı için eşlemesi açık dosyayı taşıyamayan
+ * işletim sistemlerinde de çalışır.
+ */
+@Slf4j
+public class MappedFileSessionStore extends InMemorySessionStore implements Closeable {
+
+    private static final int MAGIC = 0x47545353; // "GTSS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+
+    private static final byte END = 0;
+    private static final byte TOKEN_RECORD = 1;
+    private static final byte USER_RECORD = 2;
+    private static final int USER_RECORD_SIZE = 1 + 8 + 8;
+
+    private final FileChannel[] channels = new FileChannel[2];
+    private final MappedByteBuffer[] segments = new MappedByteBuffer[2];
+
+    private int active;
+    private long generation;
+    private int position;
+
+    // Dosyaya yazılamayan canlı kayıt var; sıkıştırma bir sonraki temizliğe kadar tekrar denenmez
+    private volatile boolean full;
+
+    public MappedFileSessionStore(Path directory, int capacityBytes) throws IOException {
+        Files.createDirectories(directory);
+        for (int i = 0; i < 2; i++) {
+            channels[i] = FileChannel.open(directory.resolve(i == 0 ? "sessions-a.log" : "sessions-b.log"),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = Math.max(capacityBytes, channels[i].size());
+            segments[i] = channels[i].map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        open(System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean revokeToken(String tokenId, long expiresAt) {
+        boolean added = super.revokeToken(tokenId, expiresAt);
+        if (added) {
+            appendToken(tokenId, expiresAt);
+        }
+        return added;
+    }
+
+    @Override
+    public void revokeUser(Long userId, long revokedAt) {
+        super.revokeUser(userId, revokedAt);
+        appendUser(userId, revokedAt);
+    }
+
+    /**
+     * Süresi dolmuş kayıtları sil; dosyanın yarısı dolduysa canlı kayıtlarla yeniden yaz
+     */
+    @Override
+    public synchronized void removeExpired(long now, long tokenTtlMillis) {
+        super.removeExpired(now, tokenTtlMillis);
+        full = false;
+        if (position > segments[active].capacity() / 2) {
+            compact();
+        } else {
+            segments[active].force();
+        }
+    }
+
+    /**
+     * Bellekteki canlı kayıtların bir kısmı dosyaya sığmadı mı? (yeniden başlatmada kaybolurlar)
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (int i = 0; i < 2; i++) {
+            segments[i].force();
+            channels[i].close();
+        }
+    }
+
+    private void open(long now) {
+        int chosen = -1;
+        long chosenGeneration = -1;
+        for (int i = 0; i < 2; i++) {
+            MappedByteBuffer segment = segments[i];
+            if (segment.getInt(0) == MAGIC && segment.getInt(4) == VERSION && segment.getLong(8) > chosenGeneration) {
+                chosen = i;
+                chosenGeneration = segment.getLong(8);
+            }
+        }
+
+        if (chosen < 0) { // İlk açılış
+            active = 0;
+            generation = 1;
+            position = HEADER_SIZE;
+            segments[0].put(HEADER_SIZE, END);
+            writeHeader(segments[0], generation);
+            segments[0].force();
+            return;
+        }
+
+        active = chosen;
+        generation = chosenGeneration;
+        load(segments[active], now);
+        // Açılışta süresi dolan kayıtları dosyadan da at
+        compact();
+    }
+
+    private void load(MappedByteBuffer segment, long now) {
+        int capacity = segment.capacity();
+        int offset = HEADER_SIZE;
+        while (offset < capacity) {
+            byte type = segment.get(offset);
+            if (type == TOKEN_RECORD && offset + 2 <= capacity) {
+                int length = segment.get(offset + 1) & 0xFF;
+                int size = 2 + length + 8;
+                if (offset + size > capacity) {
+                    break;
+                }
+                byte[] id = new byte[length];
+                segment.get(offset + 2, id);
+                long expiresAt = segment.getLong(offset + 2 + length);
+                if (expiresAt > now) {
+                    revokedTokens.putIfAbsent(new String(id, StandardCharsets.US_ASCII), expiresAt);
+                }
+                offset += size;
+            } else if (type == USER_RECORD && offset + USER_RECORD_SIZE <= capacity) {
+                revokedUsers.merge(segment.getLong(offset + 1), segment.getLong(offset + 9), Math::max);
+                offset += USER_RECORD_SIZE;
+            } else {
+                break; // END veya yarım kalmış kayıt
+            }
+        }
+        position = offset;
+    }
+
+    private synchronized void appendToken(String tokenId, long expiresAt) {
+        byte[] id = tokenId.getBytes(StandardCharsets.US_ASCII);
+        if (id.length > 0xFF) {
+            throw new IllegalArgumentException("tokenId çok uzun: " + id.length);
+        }
+        int size = 2 + id.length + 8;
+        if (!ensureCapacity(size)) {
+            return;
+        }
+        MappedByteBuffer segment = segments[active];
+        segment.put(position + size, END);
+        segment.put(position + 1, (byte) id.length);
+        segment.put(position + 2, id);
+        segment.putLong(position + 2 + id.length, expiresAt);
+        segment.put(position, TOKEN_RECORD); // Tür en son yazılır: yarım kayıt okunmaz
+        segment.force(position, size + 1);
+        position += size;
+    }
+
+    private synchronized void appendUser(Long userId, long revokedAt) {
+        if (!ensureCapacity(USER_RECORD_SIZE)) {
+            return;
+        }
+        MappedByteBuffer segment = segments[active];
+        segment.put(position + USER_RECORD_SIZE, END);
+        segment.putLong(position + 1, userId);
+        segment.putLong(position + 9, revokedAt);
+        segment.put(position, USER_RECORD);
+        segment.force(position, USER_RECORD_SIZE + 1);
+        position += USER_RECORD_SIZE;
+    }
+
+    // Kayıt + bitiş işareti için yer yoksa önce sıkıştırmayı dener
+    private boolean ensureCapacity(int size) {
+        if (position + size + 1 <= segments[active].capacity()) {
+            return true;
+        }
+        if (full) {
+            return false;
+        }
+        compact();
+        if (full) {
+            return false; // Sıkıştırma kayıt düşürdü ve logladı
+        }
+        if (position + size + 1 <= segments[active].capacity()) {
+            return true;
+        }
+        full = true;
+        log.warn("Oturum dosyası dolu, yeni kayıtlar sadece bellekte tutuluyor (gorev.session.file.capacity-bytes artırılmalı)");
+        return false;
+    }
+
+    /**
+     * Canlı kayıtları diğer dosyaya yaz ve onu aktif yap
+     * Sığmayan kayıtlar atlanır; bu durumda full işaretlenir ve kaç kaydın düştüğü loglanır.
+     */
+    private synchronized void compact() {
+        int target = 1 - active;
+        MappedByteBuffer segment = segments[target];
+        int capacity = segment.capacity();
+
+        // Yazma bitene kadar hedef dosya geçersiz sayılsın
+        segment.putInt(0, 0);
+        segment.force();
+
+        int offset = HEADER_SIZE;
+        int droppedUsers = 0;
+        int droppedTokens = 0;
+        for (Map.Entry<Long, Long> entry : revokedUsers.entrySet()) {
+            if (offset + USER_RECORD_SIZE + 1 > capacity) {
+                droppedUsers++;
+                continue;
+            }
+            segment.put(offset, USER_RECORD);
+            segment.putLong(offset + 1, entry.getKey());
+            segment.putLong(offset + 9, entry.getValue());
+            offset += USER_RECORD_SIZE;
+        }
+        for (Map.Entry<String, Long> entry : revokedTokens.entrySet()) {
+            byte[] id = entry.getKey().getBytes(StandardCharsets.US_ASCII);
+            int size = 2 + id.length + 8;
+            if (offset + size + 1 > capacity) {
+                droppedTokens++;
+                continue;
+            }
+            segment.put(offset, TOKEN_RECORD);
+            segment.put(offset + 1, (byte) id.length);
+            segment.put(offset + 2, id);
+            segment.putLong(offset + 2 + id.length, entry.getValue());
+            offset += size;
+        }
+        segment.put(offset, END);
+
+        writeHeader(segment, generation + 1);
+        segment.force();
+
+        active = target;
+        generation++;
+        position = offset;
+
+        if (droppedUsers + droppedTokens > 0) {
+            full = true;
+            log.warn("Oturum dosyası sıkıştırmada canlı kayıtları alamadı: {} kullanıcı ve {} token kaydı (ve bir sonraki "
+                + "temizliğe kadar gelen yeni kayıtlar) sadece bellekte, yeniden başlatmada kaybolur "
+                + "(gorev.session.file.capacity-bytes artırılmalı)", droppedUsers, droppedTokens);
+        }
+    }
+
+    private static void writeHeader(MappedByteBuffer segment, long generation) {
+        segment.putInt(4, VERSION);
+        segment.putLong(8, generation);
+        segment.putInt(0, MAGIC); // Magic en son: başlık tamamlanmadan dosya geçerli sayılmaz
+    }
+}
@@ -0,0 +1,149 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.UserDto;
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Müdür -> ekip üyesi hiyerarşisi için bellek içi index
+ * Her müdür için aktif ekip üyesi id'leri sıralı bir long[] olarak, her ekip üyesi için
+ * müdür id'si ters yönde tutulur. Ekip çözümlemesi veritabanına gitmeden yapılır.
+ *
+ * Açılışta tek sorgu ile kurulur, AuthService'teki kullanıcı yazmaları ile güncellenir.
+ * Diziler değiştirilmez, her yazmada yenisi ile değiştirilir; okumalar kilitsizdir.
+ * Diğer uygulama örneklerinin yazmaları için periyodik olarak baştan kurulur.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrgHierarchyIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final UserRepository userRepository;
+
+    // managerId -> sıralı ekip üyesi id'leri
+    private final Map<Long, long[]> membersByManager = new ConcurrentHashMap<>();
+
+    // memberId -> managerId
+    private final Map<Long, Long> managerByMember = new ConcurrentHashMap<>();
+
+    /**
+     * Index'i veritabanından baştan kur
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${gorev.hierarchy.refresh-interval-millis:300000}",
+               fixedDelayString = "${gorev.hierarchy.refresh-interval-millis:300000}")
+    public synchronized void rebuild() {
+        List<UserRepository.TeamLink> links = userRepository.findActiveTeamLinks();
+
+        Map<Long, Integer> sizes = new HashMap<>();
+        for (UserRepository.TeamLink link : links) {
+            sizes.merge(link.getManagerId(), 1, Integer::sum);
+        }
+
+        Map<Long, long[]> members = new HashMap<>();
+        Map<Long, Integer> filled = new HashMap<>();
+        Map<Long, Long> managers = new HashMap<>();
+        for (UserRepository.TeamLink link : links) {
+            long[] ids = members.computeIfAbsent(link.getManagerId(), id -> new long[sizes.get(id)]);
+            ids[filled.merge(link.getManagerId(), 1, Integer::sum) - 1] = link.getMemberId();
+            managers.put(link.getMemberId(), link.getManagerId());
+        }
+        members.values().forEach(Arrays::sort);
+
+        // Okumalar sırasında boş görünmemesi için önce yeni kayıtlar yazılır, sonra eskiler silinir
+        membersByManager.putAll(members);
+        membersByManager.keySet().retainAll(members.keySet());
+        managerByMember.putAll(managers);
+        managerByMember.keySet().retainAll(managers.keySet());
+        log.info("Hiyerarşi index'i kuruldu - müdür: {}, ekip üyesi: {}", members.size(), links.size());
+    }
+
+    /**
+     * Kaydedilen / güncellenen kullanıcının yerini index'te güncelle
+     * Sadece aktif ve müdürü olan ekip üyeleri index'e girer.
+     */
+    public synchronized void update(UserDto user) {
+        removeMember(user.getId());
+        if (user.getRole() == User.Role.TEAM_MEMBER && Boolean.TRUE.equals(user.getIsActive())
+                && user.getManagerId() != null) {
+            long[] current = membersByManager.getOrDefault(user.getManagerId(), EMPTY);
+            int insertAt = -Arrays.binarySearch(current, user.getId()) - 1;
+            long[] updated = new long[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, insertAt);
+            updated[insertAt] = user.getId();
+            System.arraycopy(current, insertAt, updated, insertAt + 1, current.length - insertAt);
+            membersByManager.put(user.getManagerId(), updated);
+            managerByMember.put(user.getId(), user.getManagerId());
+        }
+    }
+
+    /**
+     * Silinen kullanıcıyı index'ten çıkar (müdürse ekibi de cascade ile silinmiştir)
+     */
+    public synchronized void remove(Long userId) {
+        removeMember(userId);
+        long[] team = membersByManager.remove(userId);
+        if (team != null) {
+            for (long memberId : team) {
+                managerByMember.remove(memberId);
+            }
+        }
+    }
+
+    /**
+     * Müdürün aktif ekip üyesi id'leri (artan sırada)
+     * Dönen dizi paylaşımlıdır, değiştirilmemelidir.
+     */
+    public long[] getMemberIds(Long managerId) {
+        return membersByManager.getOrDefault(managerId, EMPTY);
+    }
+
+    public int countMembers(Long managerId) {
+        return getMemberIds(managerId).length;
+    }
+
+    /**
+     * Ekip üyesinin müdürü (aktif ekip üyesi değilse veya müdürü yoksa null)
+     */
+    public Long getManagerId(Long memberId) {
+        return managerByMember.get(memberId);
+    }
+
+    public boolean isMemberOf(Long managerId, Long memberId) {
+        return memberId != null && Arrays.binarySearch(getMemberIds(managerId), memberId) >= 0;
+    }
+
+    private void removeMember(Long memberId) {
+        Long managerId = managerByMember.remove(memberId);
+        if (managerId == null) {
+            return;
+        }
+        long[] current = membersByManager.getOrDefault(managerId, EMPTY);
+        int index = Arrays.binarySearch(current, memberId);
+        if (index < 0) {
+            return;
+        }
+        if (current.length == 1) {
+            membersByManager.remove(managerId);
+            return;
+        }
+        long[] updated = new long[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, index);
+        System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        membersByManager.put(managerId, updated);
+    }
+}
@@ -0,0 +1,45 @@
+package com.erdemirProje.gorevTakip.service;
+
+/**
+ * Oturumlar için sunucu tarafında tutulması gereken durum (SPI)
+ * Token'lar imzalı ve kendi bilgisini taşıdığı için burada sadece geçersiz kılınmış token'lar ve
+ * kullanıcı bazlı geçersiz kılma zamanları saklanır.
+ * Varsayılan: {@link DatabaseSessionStore} (kayıtlar tüm uygulama örneklerine ulaşır); tek örnekli
+ * kurulumlar için {@link InMemorySessionStore} ve yeniden başlatmada korunan {@link MappedFileSessionStore}.
+ * Testlerde InMemorySessionStore yerel bir muadil olarak kullanılabilir.
+ */
+public interface SessionStore {
+
+    /**
+     * Tek bir token'ı bitiş zamanına kadar geçersiz kıl
+     * @return Token daha önce geçersiz kılınmamışsa true
+     */
+    boolean revokeToken(String tokenId, long expiresAt);
+
+    /**
+     * Kullanıcının revokedAt anına kadar aldığı tüm token'ları geçersiz kıl
+     */
+    void revokeUser(Long userId, long revokedAt);
+
+    /**
+     * Token (veya sahibi olan kullanıcının token'ları) geçersiz kılınmış mı?
+     */
+    boolean isRevoked(String tokenId, Long userId, long issuedAt);
+
+    /**
+     * Artık etkisi kalmayan kayıtları sil
+     * @param now Şu anki zaman
+     * @param tokenTtlMillis Token ömrü (kullanıcı kayıtları bu süre sonunda etkisiz kalır)
+     */
+    void removeExpired(long now, long tokenTtlMillis);
+
+    /**
+     * Diğer uygulama örneklerinin geçersiz kılmalarını al (paylaşılan depolar için; yerel depolarda boş)
+     */
+    default void sync() {
+    }
+
+    int getRevokedTokenCount();
+
+    int getRevokedUserCount();
+}
@@ -0,0 +1,211 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
+import com.erdemirProje.gorevTakip.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HMAC-SHA256 ile imzalanmış, kendi bilgisini taşıyan oturum token'ları
+ * Token biçimi: base64url(payload) + "." + base64url(imza)
+ * payload: v1|tokenId|userId|role|managerId|issuedAt|expiresAt
+ * Doğrulama sadece CPU ile yapılır; aynı secret'ı kullanan her uygulama örneği token'ı kabul eder.
+ *
+ * Boşta kalma süresi (idle timeout) tanımlıysa expiresAt girişten itibaren değil son kullanımdan
+ * itibaren sayılır: süresinin yarısı geçmiş bir token kullanıldığında {@link #refresh} aynı tokenId ve
+ * issuedAt ile yeni bitiş zamanlı bir token üretir. Oturum, token-ttl-hours (mutlak süre) sonunda
+ * yenilemeye rağmen biter. Durum sunucuda tutulmadığı için tüm uygulama örneklerinde aynı çalışır.
+ */
+@Component
+public class SessionTokenCodec {
+
+    private static final String VERSION = "v1";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String FIELD_SEPARATOR = "|";
+    private static final int FIELD_COUNT = 7;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecureRandom random = new SecureRandom();
+    private final SecretKeySpec key;
+    private final long ttlMillis;
+    private final long idleTimeoutMillis;
+
+    // Mac örnekleri thread-safe değil, her thread kendi örneğini kullanır
+    private final ThreadLocal<Mac> mac;
+
+    private final AtomicLong issuedTokens = new AtomicLong();
+    private final AtomicLong invalidTokens = new AtomicLong();
+    private final AtomicLong expiredTokens = new AtomicLong();
+
+    public SessionTokenCodec(
+            @Value("${gorev.session.secret:}") String secret,
+            @Value("${gorev.session.token-ttl-hours:12}") long ttlHours,
+            @Value("${gorev.session.idle-timeout-minutes:30}") long idleTimeoutMinutes) {
+        this.key = new SecretKeySpec(decodeSecret(secret), ALGORITHM);
+        this.ttlMillis = ttlHours * 60 * 60 * 1000L;
+        this.idleTimeoutMillis = idleTimeoutMinutes * 60 * 1000L;
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * Kullanıcı için yeni imzalı token üret
+     */
+    public String issue(SessionPrincipal principal) {
+        long now = System.currentTimeMillis();
+        byte[] tokenId = new byte[12];
+        random.nextBytes(tokenId);
+        issuedTokens.incrementAndGet();
+        return encode(ENCODER.encodeToString(tokenId), principal, now, nextExpiry(now, now));
+    }
+
+    /**
+     * Boşta kalma süresinin yarısı geçtiyse aynı oturum için bitiş zamanı ileri alınmış token üret
+     * @return Yenilenmiş token; idle timeout kapalıysa, yenilemeye gerek yoksa veya mutlak süre dolmak
+     * üzereyse boş
+     */
+    public Optional<String> refresh(Claims claims) {
+        if (idleTimeoutMillis <= 0) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = nextExpiry(claims.issuedAt(), now);
+        if (claims.expiresAt() - now > idleTimeoutMillis / 2 || expiresAt <= claims.expiresAt()) {
+            return Optional.empty();
+        }
+        return Optional.of(encode(claims.tokenId(), claims.principal(), claims.issuedAt(), expiresAt));
+    }
+
+    /**
+     * Oturumun mutlak bitiş zamanı (yenilenen token'lar bu zamanı geçemez)
+     * Çıkışta tokenId bu zamana kadar geçersiz kılınır; aynı oturumun yenilenmiş token'ları da kapsanır.
+     */
+    public long sessionExpiresAt(Claims claims) {
+        return claims.issuedAt() + ttlMillis;
+    }
+
+    /**
+     * Token'ın imzasını ve süresini kontrol et, geçerliyse içeriğini döndür
+     */
+    public Optional<Claims> parse(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            invalidTokens.incrementAndGet();
+            return Optional.empty();
+        }
+
+        try {
+            String encodedPayload = token.substring(0, dot);
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                invalidTokens.incrementAndGet();
+                return Optional.empty();
+            }
+
+            String payload = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8);
+            String[] fields = payload.split("\\|", -1);
+            if (fields.length != FIELD_COUNT || !VERSION.equals(fields[0])) {
+                invalidTokens.incrementAndGet();
+                return Optional.empty();
+            }
+
+            long expiresAt = Long.parseLong(fields[6]);
+            if (System.currentTimeMillis() >= expiresAt) {
+                expiredTokens.incrementAndGet();
+                return Optional.empty();
+            }
+
+            SessionPrincipal principal = new SessionPrincipal(
+                Long.parseLong(fields[2]),
+                User.Role.valueOf(fields[3]),
+                fields[4].isEmpty() ? null : Long.parseLong(fields[4])
+            );
+            return Optional.of(new Claims(fields[1], principal, Long.parseLong(fields[5]), expiresAt));
+        } catch (IllegalArgumentException e) { // Bozuk base64, sayı veya rol
+            invalidTokens.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public long getIssuedTokens() {
+        return issuedTokens.get();
+    }
+
+    public long getInvalidTokens() {
+        return invalidTokens.get();
+    }
+
+    public long getExpiredTokens() {
+        return expiredTokens.get();
+    }
+
+    private long nextExpiry(long issuedAt, long now) {
+        long sessionExpiresAt = issuedAt + ttlMillis;
+        return idleTimeoutMillis > 0 ? Math.min(now + idleTimeoutMillis, sessionExpiresAt) : sessionExpiresAt;
+    }
+
+    private String encode(String tokenId, SessionPrincipal principal, long issuedAt, long expiresAt) {
+        String payload = String.join(FIELD_SEPARATOR,
+            VERSION,
+            tokenId,
+            String.valueOf(principal.getUserId()),
+            principal.getRole().name(),
+            principal.getManagerId() != null ? String.valueOf(principal.getManagerId()) : "",
+            String.valueOf(issuedAt),
+            String.valueOf(expiresAt)
+        );
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload));
+    }
+
+    private byte[] sign(String encodedPayload) {
+        return mac.get().doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC başlatılamadı", e);
+        }
+    }
+
+    // Her uygulama örneği kendi anahtarını üretseydi bir örneğin verdiği token diğerinde reddedilirdi
+    private static byte[] decodeSecret(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException(
+                "gorev.session.secret tanımlı değil (tüm uygulama örneklerinde aynı değer: openssl rand -base64 32)");
+        }
+        byte[] decoded = Base64.getDecoder().decode(secret.trim());
+        if (decoded.length < 32) {
+            throw new IllegalStateException("gorev.session.secret en az 32 byte (base64) olmalı");
+        }
+        return decoded;
+    }
+
+    /**
+     * Doğrulanmış token içeriği
+     */
+    public record Claims(String tokenId, SessionPrincipal principal, long issuedAt, long expiresAt) {
+    }
+}
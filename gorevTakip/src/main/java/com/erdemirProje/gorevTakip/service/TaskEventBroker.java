@@ -0,0 +1,283 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
+import com.erdemirProje.gorevTakip.dto.TaskEventDto;
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Görev değişikliklerini açık SSE bağlantılarına dağıtan kullanıcı bazlı abonelik kaydı
+ *
+ * Görev yazmaları olayı sadece abonelerin kuyruğuna ekler (commit sonrasında), ağ yazması
+ * ayrı gönderici thread'lerinde yapılır; yavaş bir istemci yazma isteğini bekletmez.
+ * Her aboneliğin kuyruğu sınırlıdır: dolarsa bekleyen olaylar atılır ve yerine tek bir
+ * "resync" olayı konur, istemci listeyi baştan yükler.
+ *
+ * Olaylar görevin sahibine, atayan müdüre ve direktörlere gider. Bağlantıların canlı
+ * tutulması ve kopanların temizlenmesi için periyodik heartbeat yorumu gönderilir.
+ */
+@Component
+public class TaskEventBroker {
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final int maxSubscriptions;
+    private final int maxSubscriptionsPerUser;
+    private final ExecutorService sender;
+
+    // userId -> kullanıcının açık bağlantıları (birden fazla sekme)
+    private final Map<Long, Set<Subscription>> subscriptionsByUser = new ConcurrentHashMap<>();
+
+    // Direktörler tüm görev olaylarını alır
+    private final Set<Subscription> directorSubscriptions = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    public TaskEventBroker(
+            @Value("${gorev.stream.timeout-millis:1800000}") long timeoutMillis,
+            @Value("${gorev.stream.queue-capacity:64}") int queueCapacity,
+            @Value("${gorev.stream.max-subscriptions:10000}") int maxSubscriptions,
+            @Value("${gorev.stream.max-subscriptions-per-user:5}") int maxSubscriptionsPerUser,
+            @Value("${gorev.stream.sender-threads:4}") int senderThreads) {
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscriptions = maxSubscriptions;
+        this.maxSubscriptionsPerUser = maxSubscriptionsPerUser;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Kullanıcı için yeni olay akışı aç
+     * @return Akış, bağlantı sınırı aşıldıysa null
+     */
+    public SseEmitter subscribe(SessionPrincipal principal) {
+        if (subscriptionCount.incrementAndGet() > maxSubscriptions) {
+            subscriptionCount.decrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Subscription subscription = new Subscription(principal, emitter);
+        AtomicBoolean added = new AtomicBoolean();
+        // Eklemenin, son aboneliği kapanan kullanıcının kaydının silinmesiyle yarışmaması için compute içinde
+        subscriptionsByUser.compute(principal.getUserId(), (id, subscriptions) -> {
+            Set<Subscription> current = subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+            if (current.size() < maxSubscriptionsPerUser) {
+                current.add(subscription);
+                added.set(true);
+            }
+            return current.isEmpty() ? null : current;
+        });
+        if (!added.get()) {
+            subscriptionCount.decrementAndGet();
+            return null;
+        }
+        if (principal.isDirector()) {
+            directorSubscriptions.add(subscription);
+        }
+
+        emitter.onCompletion(subscription::unregister);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscription.unregister());
+        return emitter;
+    }
+
+    /**
+     * Tek bir görevle ilgili olayı yayınla
+     * @param extraRecipients Sahibi ve atayanı dışında bilgilendirilecek kullanıcılar (ör. görevin eski sahibi)
+     */
+    public void publish(TaskEventDto.Type type, GorevYapisi gorev, Long... extraRecipients) {
+        publish(type, gorev.getGorevid(), gorev.getUserid(),
+            gorev.getAssignedBy() != null ? gorev.getAssignedBy().getId() : null, gorev.getStatus(), extraRecipients);
+    }
+
+    public void publish(TaskEventDto.Type type, Long gorevid, Long userId, Long assignedById, String status,
+                        Long... extraRecipients) {
+        TaskEventDto event = new TaskEventDto(type, gorevid, userId, assignedById, status, null, System.currentTimeMillis());
+        TransactionHooks.afterCommit(() -> {
+            Set<Subscription> targets = Collections.newSetFromMap(new IdentityHashMap<>());
+            addUser(targets, userId);
+            addUser(targets, assignedById);
+            for (Long recipient : extraRecipients) {
+                addUser(targets, recipient);
+            }
+            targets.addAll(directorSubscriptions);
+            targets.forEach(subscription -> subscription.enqueue(event));
+        });
+    }
+
+    /**
+     * Müdürün ekip görevleri direktöre rapor edildi
+     */
+    public void reported(Long managerId, List<Long> gorevIds, long[] teamMemberIds) {
+        TaskEventDto event = new TaskEventDto(TaskEventDto.Type.REPORTED, null, null, managerId, "COMPLETED",
+            List.copyOf(gorevIds), System.currentTimeMillis());
+        TransactionHooks.afterCommit(() -> {
+            Set<Subscription> targets = Collections.newSetFromMap(new IdentityHashMap<>());
+            addUser(targets, managerId);
+            for (long memberId : teamMemberIds) {
+                addUser(targets, memberId);
+            }
+            targets.addAll(directorSubscriptions);
+            targets.forEach(subscription -> subscription.enqueue(event));
+        });
+    }
+
+    /**
+     * Boştaki bağlantılara heartbeat gönder (proxy zaman aşımlarını önler, kopan bağlantıları bulur)
+     */
+    @Scheduled(fixedDelayString = "${gorev.stream.heartbeat-interval-millis:20000}")
+    public void sendHeartbeats() {
+        for (Set<Subscription> subscriptions : subscriptionsByUser.values()) {
+            for (Subscription subscription : subscriptions) {
+                subscription.enqueueHeartbeat();
+            }
+        }
+    }
+
+    public int getSubscriptionCount() {
+        return subscriptionCount.get();
+    }
+
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Set<Subscription> subscriptions : subscriptionsByUser.values()) {
+            subscriptions.forEach(subscription -> subscription.emitter.complete());
+        }
+        sender.shutdownNow();
+    }
+
+    /**
+     * Testlerde gönderilen olayları yakalamak için değiştirilebilir
+     */
+    protected SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    private void addUser(Set<Subscription> targets, Long userId) {
+        if (userId != null) {
+            Set<Subscription> subscriptions = subscriptionsByUser.get(userId);
+            if (subscriptions != null) {
+                targets.addAll(subscriptions);
+            }
+        }
+    }
+
+    /**
+     * Tek bir SSE bağlantısı: sınırlı kuyruk + en fazla bir aktif gönderici
+     */
+    private final class Subscription {
+
+        private final SessionPrincipal principal;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscription(SessionPrincipal principal, SseEmitter emitter) {
+            this.principal = principal;
+            this.emitter = emitter;
+        }
+
+        void enqueue(TaskEventDto event) {
+            if (!queue.offer(event)) {
+                // İstemci yetişemiyor: eski olaylar yerine tek resync olayı
+                queue.clear();
+                queue.offer(new TaskEventDto(TaskEventDto.Type.RESYNC, null, null, null, null, null,
+                    System.currentTimeMillis()));
+                overflowCount.incrementAndGet();
+            }
+            scheduleDrain();
+        }
+
+        void enqueueHeartbeat() {
+            if (queue.isEmpty() && queue.offer(HEARTBEAT)) {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (closed.get() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) { // Uygulama kapanıyor
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                Object item;
+                while ((item = queue.poll()) != null) {
+                    if (item == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        TaskEventDto event = (TaskEventDto) item;
+                        emitter.send(SseEmitter.event()
+                            .id(String.valueOf(eventSequence.incrementAndGet()))
+                            .name(event.getType().getEventName())
+                            .data(event, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (Exception e) { // Bağlantı kopmuş veya akış kapanmış
+                unregister();
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // Son poll ile draining=false arasında eklenen olay kalmasın
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void unregister() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            queue.clear();
+            subscriptionCount.decrementAndGet();
+            directorSubscriptions.remove(this);
+            subscriptionsByUser.computeIfPresent(principal.getUserId(), (id, subscriptions) -> {
+                subscriptions.remove(this);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+        }
+    }
+}
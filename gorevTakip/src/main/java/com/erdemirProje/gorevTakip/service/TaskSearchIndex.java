@@ -0,0 +1,340 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+import java.util.stream.Stream;
+
+/**
+ * Görev adı (isim) ve açıklaması üzerinde bellek içi ters index (inverted index)
+ *
+ * Metin Türkçe kurallarıyla küçük harfe çevrilir (İ -> i, I -> ı), ardından Türkçe karakterler
+ * ASCII karşılıklarına indirgenir; böylece "İSTANBUL", "istanbul" ve "Istanbul" aynı kelimeye,
+ * "görev" ve "gorev" aynı kelimeye düşer. Kelimeler harf/rakam dışı karakterlerden ayrılır.
+ *
+ * Sorgudaki her kelime eşleşmelidir (AND); kelimenin tamamı veya başı (önek) eşleşebilir.
+ * Puan: isimdeki kelime 3, açıklamadaki 1 ağırlıklı, nadir kelimeler (idf) daha değerli,
+ * önek eşleşmesi yarım puan.
+ *
+ * Açılışta veritabanından tek akış ile kurulur, görev yazmaları ile commit sonrasında güncellenir,
+ * diğer uygulama örneklerinin yazmaları için periyodik olarak baştan kurulur.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSearchIndex {
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr-TR");
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double PREFIX_FACTOR = 0.5;
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKEN_LENGTH = 40;
+    private static final int MAX_QUERY_TOKENS = 8;
+
+    // Kısa öneklerin binlerce kelimeye açılmaması için üst sınır
+    private static final int MAX_PREFIX_TERMS = 64;
+
+    private final GorevYapisiRepository gorevRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // kelime -> (gorevid -> ağırlık); önek araması için sıralı
+    private TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+
+    // gorevid -> index'lenmiş görev (silme / güncelleme ve yetki filtresi için)
+    private Map<Long, Doc> docs = new HashMap<>();
+
+    // Yeniden kurulum sürerken gelen yazmalar; yeni index'e de uygulanır
+    private List<Runnable> pendingDuringRebuild;
+
+    /**
+     * Index'i veritabanından baştan kur
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${gorev.search.refresh-interval-millis:600000}",
+               fixedDelayString = "${gorev.search.refresh-interval-millis:600000}")
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TreeMap<String, Map<Long, Integer>> newPostings = new TreeMap<>();
+        Map<Long, Doc> newDocs = new HashMap<>();
+        try (Stream<GorevDto> gorevler = gorevRepository.streamAllDtos()) {
+            gorevler.forEach(gorev -> add(newPostings, newDocs, gorev.getGorevid(), gorev.getIsim(),
+                gorev.getDescription(), gorev.getUserid(), gorev.getAssignedById()));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            docs = newDocs;
+            List<Runnable> pending = pendingDuringRebuild;
+            pendingDuringRebuild = null;
+            pending.forEach(Runnable::run);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Arama index'i kuruldu - görev: {}, kelime: {}", newDocs.size(), newPostings.size());
+    }
+
+    /**
+     * Eklenen / güncellenen görevi commit sonrasında index'e yaz
+     */
+    public void taskSaved(GorevYapisi gorev) {
+        Long gorevid = gorev.getGorevid();
+        String isim = gorev.getIsim();
+        String description = gorev.getDescription();
+        Long userId = gorev.getUserid();
+        Long assignedById = gorev.getAssignedBy() != null ? gorev.getAssignedBy().getId() : null;
+        TransactionHooks.afterCommit(() -> write(() -> {
+            remove(postings, docs, gorevid);
+            add(postings, docs, gorevid, isim, description, userId, assignedById);
+        }));
+    }
+
+    /**
+     * Silinen görevi commit sonrasında index'ten çıkar
+     */
+    public void taskRemoved(Long gorevid) {
+        TransactionHooks.afterCommit(() -> write(() -> remove(postings, docs, gorevid)));
+    }
+
+    /**
+     * Sorguyu çalıştır, erişilebilen sonuçları puana göre sırala
+     * @param visible (userId, assignedById) -> görev bu kullanıcıya gösterilebilir mi
+     * @return İstenen sayfadaki görev id'leri (sıralı) ve toplam eşleşme sayısı
+     */
+    public Hits search(String query, BiPredicate<Long, Long> visible, int offset, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty()) {
+            return new Hits(List.of(), 0);
+        }
+        if (tokens.size() > MAX_QUERY_TOKENS) {
+            tokens = tokens.subList(0, MAX_QUERY_TOKENS);
+        }
+
+        lock.readLock().lock();
+        try {
+            // Her kelime için aday görevler; en az adayı olan kelimeden başlanır
+            List<Map<Long, Double>> perToken = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Map<Long, Double> scores = scoreToken(token);
+                if (scores.isEmpty()) {
+                    return new Hits(List.of(), 0);
+                }
+                perToken.add(scores);
+            }
+            perToken.sort(Comparator.comparingInt(Map::size));
+
+            // Sadece istenen sayfanın sonuna kadar olan en iyi sonuçlar tutulur
+            int keep = offset + limit;
+            Comparator<Map.Entry<Long, Double>> ranking = Map.Entry.<Long, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(ranking);
+            int total = 0;
+            candidates:
+            for (Map.Entry<Long, Double> candidate : perToken.get(0).entrySet()) {
+                double score = candidate.getValue();
+                for (int i = 1; i < perToken.size(); i++) {
+                    Double tokenScore = perToken.get(i).get(candidate.getKey());
+                    if (tokenScore == null) {
+                        continue candidates;
+                    }
+                    score += tokenScore;
+                }
+                Doc doc = docs.get(candidate.getKey());
+                if (!visible.test(doc.userId(), doc.assignedById())) {
+                    continue;
+                }
+                total++;
+                if (keep > 0) {
+                    top.add(Map.entry(candidate.getKey(), score));
+                    if (top.size() > keep) {
+                        top.poll();
+                    }
+                }
+            }
+
+            List<Long> ranked = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                ranked.add(top.poll().getKey());
+            }
+            // Kuyruk en düşük puandan başlar; yüksek puan (eşitlikte yeni görev) önce gelsin
+            List<Long> page = new ArrayList<>(limit);
+            for (int i = ranked.size() - 1 - offset; i >= 0; i--) {
+                page.add(ranked.get(i));
+            }
+            return new Hits(page, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Türkçe kurallarıyla küçük harf + ASCII'ye indirgeme (ı/i, ğ/g, ü/u, ş/s, ö/o, ç/c aynı sayılır)
+     */
+    static String normalize(String text) {
+        String lower = text.toLowerCase(TURKISH);
+        StringBuilder normalized = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            switch (c) {
+                case 'ı', 'î' -> normalized.append('i');
+                case 'ğ' -> normalized.append('g');
+                case 'ü', 'û' -> normalized.append('u');
+                case 'ş' -> normalized.append('s');
+                case 'ö' -> normalized.append('o');
+                case 'ç' -> normalized.append('c');
+                case 'â' -> normalized.append('a');
+                default -> {
+                    // Birleşik nokta / şapka işaretleri (ör. "i̇") atlanır
+                    if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                        normalized.append(c);
+                    }
+                }
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Normalize edilmiş metni kelimelere ayır (harf/rakam dışı her karakter ayraçtır)
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                if (i - start >= MIN_TOKEN_LENGTH) {
+                    tokens.add(normalized.substring(start, Math.min(i, start + MAX_TOKEN_LENGTH)));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    // Kelimenin tam ve önek eşleşmeleri; görev başına en yüksek puan
+    private Map<Long, Double> scoreToken(String token) {
+        Map<Long, Double> scores = new HashMap<>();
+        int termCount = 0;
+        for (Map.Entry<String, Map<Long, Integer>> term : postings.subMap(token, true, token + Character.MAX_VALUE, true).entrySet()) {
+            boolean exact = term.getKey().equals(token);
+            if (!exact && ++termCount > MAX_PREFIX_TERMS) {
+                break;
+            }
+            double idf = Math.log(1 + (double) docs.size() / term.getValue().size());
+            double factor = exact ? 1 : PREFIX_FACTOR;
+            for (Map.Entry<Long, Integer> posting : term.getValue().entrySet()) {
+                scores.merge(posting.getKey(), posting.getValue() * idf * factor, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (pendingDuringRebuild != null) {
+                // Yeniden kurulum sonunda yeni haritalara da uygulanır (postings/docs o an yenileridir)
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void add(TreeMap<String, Map<Long, Integer>> postings, Map<Long, Doc> docs, Long gorevid,
+                            String isim, String description, Long userId, Long assignedById) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String token : tokenize(isim)) {
+            weights.merge(token, NAME_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(description)) {
+            weights.merge(token, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+        weights.forEach((token, weight) -> postings.computeIfAbsent(token, key -> new HashMap<>()).put(gorevid, weight));
+        docs.put(gorevid, new Doc(userId, assignedById, weights.keySet().toArray(String[]::new)));
+    }
+
+    private static void remove(TreeMap<String, Map<Long, Integer>> postings, Map<Long, Doc> docs, Long gorevid) {
+        Doc doc = docs.remove(gorevid);
+        if (doc == null) {
+            return;
+        }
+        for (String token : doc.tokens()) {
+            Map<Long, Integer> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(gorevid);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Index'teki görev: yetki filtresi için sahibi / atayanı ve silme için kelimeleri
+     */
+    private record Doc(Long userId, Long assignedById, String[] tokens) {
+    }
+
+    /**
+     * Arama sonucu: sayfadaki görev id'leri (puan sırasıyla) ve erişilebilen toplam eşleşme
+     */
+    public record Hits(List<Long> gorevIds, int total) {
+    }
+}
@@ -0,0 +1,265 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.TaskRollupDto;
+import com.erdemirProje.gorevTakip.dto.TaskTreeNodeDto;
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Görev ağacı (parentTask) için alt ağaç okuma ve tamamlanma özeti (roll-up)
+ * Her görev üst görevlerinin id'lerini tree_path kolonunda taşır: alt ağaç tek bir önek
+ * sorgusu ile okunur, üst görevler path'ten sorgusuz bulunur.
+ *
+ * Görev bazlı durum sayıları (görev + tüm alt görevleri) bellekte tutulur ve görev yazmaları
+ * ile artımlı güncellenir; bir child'ın durumu değiştiğinde sadece path'teki üst görevlerin
+ * sayaçları değişir, alt ağaç tekrar sayılmaz.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskTreeService {
+
+    // Üst görevi olmayan görevlerin path'i
+    public static final String ROOT_PATH = "/";
+
+    // Kayıtlar bu süreden sonra veritabanından yeniden sayılır (olası kaymalara karşı üst sınır)
+    private static final long TTL_MILLIS = 5 * 60 * 1000L;
+
+    // Önbellekte tutulacak en fazla görev sayısı
+    private static final int MAX_ENTRIES = 10_000;
+
+    private static final String UNKNOWN_STATUS = "UNKNOWN";
+
+    private final GorevYapisiRepository gorevRepository;
+
+    // gorevid -> alt ağacın durum sayıları
+    private final Map<Long, Rollup> rollups = new ConcurrentHashMap<>();
+
+    // Her yazma işleminde artar; yükleme sırasında yazma olduysa yüklenen değer önbelleğe alınmaz
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    /**
+     * Görevin child'larının path'i
+     */
+    public static String childPath(String parentPath, Long parentId) {
+        return (parentPath != null ? parentPath : ROOT_PATH) + parentId + "/";
+    }
+
+    /**
+     * Yeni görevin path'ini üst görevine göre ata (kaydetmeden önce)
+     */
+    public void assignPath(GorevYapisi gorev) {
+        assignPath(gorev, Map.of());
+    }
+
+    /**
+     * Yeni görevin path'ini ata; üst görevin path'i knownPaths'te yoksa ve üst görev yüklenmemişse okunur
+     * @param knownPaths Önceden okunmuş üst görev path'leri (toplu eklemede)
+     */
+    public void assignPath(GorevYapisi gorev, Map<Long, String> knownPaths) {
+        GorevYapisi parent = gorev.getParentTask();
+        if (parent == null) {
+            gorev.setTreePath(ROOT_PATH);
+            return;
+        }
+        Long parentId = parent.getGorevid();
+        String parentPath = knownPaths.get(parentId);
+        if (parentPath == null && Hibernate.isInitialized(parent)) {
+            parentPath = parent.getTreePath();
+        }
+        if (parentPath == null) {
+            parentPath = gorevRepository.findTreePath(parentId).orElse(ROOT_PATH);
+        }
+        gorev.setTreePath(childPath(parentPath, parentId));
+    }
+
+    /**
+     * Görev ve tüm alt görevleri; her düğümde kendi alt ağacının özeti
+     * @return Kök düğüm, görev bulunamazsa null
+     */
+    public TaskTreeNodeDto getTree(Long gorevid) {
+        long sequenceBefore = writeSequence.get();
+        Optional<String> path = findPath(gorevid);
+        if (path.isEmpty()) {
+            return null;
+        }
+        List<GorevDto> subtree = gorevRepository.findSubtreeDtos(gorevid, childPath(path.get(), gorevid) + "%");
+
+        // gorevid sırasıyla düğümler; child'lar parentTaskId ile bağlanır
+        Map<Long, TaskTreeNodeDto> nodes = new LinkedHashMap<>();
+        for (GorevDto gorev : subtree) {
+            nodes.put(gorev.getGorevid(), new TaskTreeNodeDto(gorev, null, new ArrayList<>()));
+        }
+        TaskTreeNodeDto root = nodes.get(gorevid);
+        if (root == null) {
+            return null;
+        }
+        for (TaskTreeNodeDto node : nodes.values()) {
+            TaskTreeNodeDto parent = node == root ? null : nodes.get(node.getTask().getParentTaskId());
+            if (parent != null) {
+                parent.getChildren().add(node);
+            }
+        }
+
+        // Özyineleme olmadan: önce kökten aşağı sırala, sonra tersten child sayılarını üstlere topla
+        List<TaskTreeNodeDto> order = new ArrayList<>(nodes.size());
+        Deque<TaskTreeNodeDto> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            TaskTreeNodeDto node = stack.pop();
+            order.add(node);
+            node.getChildren().forEach(stack::push);
+        }
+        Map<Long, Map<String, Long>> counts = new HashMap<>();
+        for (int i = order.size() - 1; i >= 0; i--) {
+            TaskTreeNodeDto node = order.get(i);
+            Map<String, Long> nodeCounts = new HashMap<>();
+            nodeCounts.merge(statusKey(node.getTask().getStatus()), 1L, Long::sum);
+            for (TaskTreeNodeDto child : node.getChildren()) {
+                counts.get(child.getTask().getGorevid()).forEach((status, count) -> nodeCounts.merge(status, count, Long::sum));
+            }
+            counts.put(node.getTask().getGorevid(), nodeCounts);
+            node.setRollup(TaskRollupDto.of(Collections.unmodifiableMap(nodeCounts)));
+        }
+
+        if (writeSequence.get() == sequenceBefore) {
+            counts.forEach((id, nodeCounts) -> cache(id, new Rollup(nodeCounts)));
+        }
+        return root;
+    }
+
+    /**
+     * Görevin alt ağacının (görev dahil) tamamlanma özeti
+     * Önbellekte yoksa tek bir GROUP BY sorgusu ile sayılır
+     * @return Özet, görev bulunamazsa null
+     */
+    public TaskRollupDto getRollup(Long gorevid) {
+        Rollup cached = rollups.get(gorevid);
+        if (cached != null && !cached.isExpired()) {
+            return TaskRollupDto.of(cached.counts());
+        }
+
+        long sequenceBefore = writeSequence.get();
+        Optional<String> path = findPath(gorevid);
+        if (path.isEmpty()) {
+            return null;
+        }
+        Map<String, Long> counts = new HashMap<>();
+        for (GorevYapisiRepository.StatusCount statusCount :
+                gorevRepository.countSubtreeByStatus(gorevid, childPath(path.get(), gorevid) + "%")) {
+            counts.merge(statusKey(statusCount.getStatus()), statusCount.getCount(), Long::sum);
+        }
+        Rollup loaded = new Rollup(counts);
+        if (writeSequence.get() == sequenceBefore) {
+            cache(gorevid, loaded);
+        }
+        return TaskRollupDto.of(loaded.counts());
+    }
+
+    /**
+     * Görev eklendi: üst görevlerin sayaçlarına eklenir
+     */
+    public void taskAdded(GorevYapisi gorev) {
+        applyToAncestors(gorev, rollup -> rollup.adjust(gorev.getStatus(), 1));
+    }
+
+    /**
+     * Görev silindi: üst görevlerin sayaçlarından düşülür
+     * (child'ı olan görev FK nedeniyle silinemediği için görevin kendi sayacı sadece kendisidir)
+     */
+    public void taskRemoved(GorevYapisi gorev) {
+        rollups.remove(gorev.getGorevid());
+        applyToAncestors(gorev, rollup -> rollup.adjust(gorev.getStatus(), -1));
+    }
+
+    /**
+     * Görevin durumu değişti: görevin ve üst görevlerinin sayaçları güncellenir
+     */
+    public void statusChanged(GorevYapisi gorev, String oldStatus) {
+        String newStatus = gorev.getStatus();
+        if (Objects.equals(oldStatus, newStatus)) {
+            return;
+        }
+        UnaryOperator<Rollup> change = rollup -> rollup.adjust(oldStatus, -1).adjust(newStatus, 1);
+        rollups.computeIfPresent(gorev.getGorevid(), (id, current) -> change.apply(current));
+        applyToAncestors(gorev, change);
+    }
+
+    private void applyToAncestors(GorevYapisi gorev, UnaryOperator<Rollup> change) {
+        writeSequence.incrementAndGet();
+        String path = gorev.getTreePath();
+        if (path == null) {
+            // Path'i olmayan (eski) görevin üstleri bilinmiyor; kök görev değilse önbellek temizlenir
+            if (gorev.getParentTask() != null) {
+                rollups.clear();
+            }
+            return;
+        }
+        for (String ancestorId : path.split("/")) {
+            if (!ancestorId.isEmpty()) {
+                rollups.computeIfPresent(Long.valueOf(ancestorId), (id, current) -> change.apply(current));
+            }
+        }
+    }
+
+    // Görev yoksa boş; path'i olmayan eski görevler kök görev gibi okunur
+    private Optional<String> findPath(Long gorevid) {
+        Optional<String> path = gorevRepository.findTreePath(gorevid);
+        if (path.isEmpty() && gorevRepository.existsById(gorevid)) {
+            return Optional.of(ROOT_PATH);
+        }
+        return path;
+    }
+
+    private void cache(Long gorevid, Rollup rollup) {
+        if (rollups.size() >= MAX_ENTRIES) {
+            rollups.clear();
+        }
+        rollups.put(gorevid, rollup);
+    }
+
+    private static String statusKey(String status) {
+        return status != null ? status : UNKNOWN_STATUS;
+    }
+
+    /**
+     * Alt ağacın durum sayıları (değiştirilmez, her güncellemede yenisi oluşturulur)
+     */
+    private record Rollup(Map<String, Long> counts, long loadedAt) {
+
+        Rollup(Map<String, Long> counts) {
+            this(Collections.unmodifiableMap(new HashMap<>(counts)), System.currentTimeMillis());
+        }
+
+        Rollup adjust(String status, long delta) {
+            Map<String, Long> updated = new HashMap<>(counts);
+            if (delta > 0) {
+                updated.merge(statusKey(status), delta, Long::sum);
+            } else {
+                updated.computeIfPresent(statusKey(status), (key, count) -> count + delta > 0 ? count + delta : null);
+            }
+            return new Rollup(Collections.unmodifiableMap(updated), loadedAt);
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - loadedAt > TTL_MILLIS;
+        }
+    }
+}
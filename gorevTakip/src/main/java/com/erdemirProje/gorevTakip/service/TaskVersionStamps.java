@@ -0,0 +1,114 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Görev listeleri için kullanıcı ve müdür bazlı sürüm damgaları (ETag)
+ * Bir göreve yapılan her yazma, görevin sahibinin ve atayan müdürün sürümünü artırır.
+ * Liste endpoint'leri sorguyu çalıştırmadan önce damgayı If-None-Match ile karşılaştırıp
+ * değişiklik yoksa 304 döner.
+ *
+ * Damgalar bellekte tutulur: açılış zamanı ETag'e eklendiği için yeniden başlatmada eski
+ * ETag'ler geçersiz olur. Diğer uygulama örneklerinin yazmaları görülmediği için ETag'e
+ * ayrıca zaman dilimi eklenir; böylece eski cevap en fazla max-stale-millis kadar kullanılır.
+ */
+@Component
+public class TaskVersionStamps {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final long maxStaleMillis;
+
+    // userId -> kullanıcının kendi görevlerinin sürümü
+    private final Map<Long, AtomicLong> userVersions = new ConcurrentHashMap<>();
+
+    // managerId -> müdürün atadığı görevlerin sürümü
+    private final Map<Long, AtomicLong> managerVersions = new ConcurrentHashMap<>();
+
+    // Kullanıcı silme / rol değişikliği gibi kapsamı belirsiz yazmalarda tüm damgalar geçersiz olur
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    public TaskVersionStamps(@Value("${gorev.etag.max-stale-millis:300000}") long maxStaleMillis) {
+        this.maxStaleMillis = maxStaleMillis;
+    }
+
+    /**
+     * Görev eklendi, güncellendi veya silindi
+     */
+    public void taskChanged(GorevYapisi gorev) {
+        taskChanged(gorev.getUserid(), gorev.getAssignedBy() != null ? gorev.getAssignedBy().getId() : null);
+    }
+
+    /**
+     * Kullanıcının ve (varsa) görevi atayan müdürün sürümünü artır
+     */
+    public void taskChanged(Long userId, Long assignedById) {
+        TransactionHooks.afterCommit(() -> {
+            if (userId != null) {
+                bump(userVersions, userId);
+            }
+            if (assignedById != null) {
+                bump(managerVersions, assignedById);
+            }
+        });
+    }
+
+    /**
+     * Müdürün atadığı birden fazla görev toplu olarak güncellendi
+     */
+    public void managerTasksChanged(Long managerId, long[] affectedUserIds) {
+        TransactionHooks.afterCommit(() -> {
+            bump(managerVersions, managerId);
+            for (long userId : affectedUserIds) {
+                bump(userVersions, userId);
+            }
+        });
+    }
+
+    /**
+     * Tüm damgaları geçersiz kıl
+     */
+    public void invalidateAll() {
+        TransactionHooks.afterCommit(globalVersion::incrementAndGet);
+    }
+
+    /**
+     * Kullanıcının görev listesi / istatistikleri için ETag
+     */
+    public String userTag(Long userId) {
+        return tag("u" + userId + "." + version(userVersions, userId));
+    }
+
+    /**
+     * Müdürün ekibe atadığı görevler için ETag
+     */
+    public String managerTeamTag(Long managerId) {
+        return tag("m" + managerId + "." + version(managerVersions, managerId));
+    }
+
+    /**
+     * Müdürün kendi görevleri + atadığı görevler için ETag
+     */
+    public String managerTasksTag(Long managerId) {
+        return tag("mu" + managerId + "." + version(managerVersions, managerId) + "." + version(userVersions, managerId));
+    }
+
+    private String tag(String scope) {
+        long window = maxStaleMillis > 0 ? System.currentTimeMillis() / maxStaleMillis : 0;
+        return "\"" + epoch + "-" + globalVersion.get() + "-" + window + "-" + scope + "\"";
+    }
+
+    private static void bump(Map<Long, AtomicLong> versions, Long id) {
+        versions.computeIfAbsent(id, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private static long version(Map<Long, AtomicLong> versions, Long id) {
+        AtomicLong version = versions.get(id);
+        return version != null ? version.get() : 0;
+    }
+}
@@ -0,0 +1,31 @@
+package com.erdemirProje.gorevTakip.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bellek içi durum güncellemelerini transaction sonucuna bağlamak için yardımcı
+ */
+final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * Transaction içindeyse commit sonrasına ertele, değilse hemen çalıştır
+     * Commit'ten önce yayınlanan bir değişiklik, arada okunan eski verinin güncel sanılmasına
+     * (veya geri alınan bir yazmanın duyurulmasına) yol açardı.
+     */
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
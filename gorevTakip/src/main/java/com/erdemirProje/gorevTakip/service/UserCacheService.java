@@ -0,0 +1,117 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.CacheStatsDto;
+import com.erdemirProje.gorevTakip.dto.UserDto;
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kullanıcı bilgileri için önbellek (id -> UserDto)
+ * Entity yerine DTO tutulur: önbellekteki nesne oturumdan bağımsızdır ve lazy ilişki içermez.
+ * Dönen DTO'lar paylaşımlıdır, değiştirilmemelidir. Kullanıcı yazma işlemleri AuthService
+ * üzerinden yapılır ve önbelleği orada günceller.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserCacheService {
+
+    public static final String CACHE_NAME = "users";
+
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * Kullanıcıyı önbellekten, yoksa veritabanından getir
+     * @return Kullanıcı, bulunamazsa null (bulunamayan id önbelleğe alınmaz)
+     */
+    @Cacheable(cacheNames = CACHE_NAME, key = "#userId", unless = "#result == null")
+    public UserDto findUser(Long userId) {
+        return userRepository.findById(userId)
+                .map(UserDto::fromEntity)
+                .orElse(null);
+    }
+
+    /**
+     * Birden fazla kullanıcıyı verilen sırada getir
+     * Önbellekte olmayanlar tek sorgu ile yüklenip önbelleğe yazılır; bulunamayanlar atlanır.
+     */
+    public List<UserDto> findUsers(long[] userIds) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        Map<Long, UserDto> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (long userId : userIds) {
+            UserDto cached = cache != null ? cache.get(userId, UserDto.class) : null;
+            if (cached != null) {
+                found.put(userId, cached);
+            } else {
+                missing.add(userId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (User user : userRepository.findAllById(missing)) {
+                UserDto dto = UserDto.fromEntity(user);
+                found.put(dto.getId(), dto);
+                if (cache != null) {
+                    cache.put(dto.getId(), dto);
+                }
+            }
+        }
+
+        List<UserDto> result = new ArrayList<>(userIds.length);
+        for (long userId : userIds) {
+            UserDto dto = found.get(userId);
+            if (dto != null) {
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Kaydedilen / güncellenen kullanıcıyı önbelleğe yaz
+     */
+    @CachePut(cacheNames = CACHE_NAME, key = "#user.id")
+    public UserDto put(UserDto user) {
+        return user;
+    }
+
+    /**
+     * Tüm kayıtları sil (silinen kullanıcıyla birlikte ekip üyeleri de cascade ile silinebilir)
+     */
+    @CacheEvict(cacheNames = CACHE_NAME, allEntries = true)
+    public void evictAll() {
+    }
+
+    /**
+     * Önbellek isabet / ıska / atılma istatistikleri
+     */
+    public CacheStatsDto getStats() {
+        if (cacheManager.getCache(CACHE_NAME) instanceof CaffeineCache caffeineCache) {
+            CacheStats stats = caffeineCache.getNativeCache().stats();
+            return new CacheStatsDto(
+                CACHE_NAME,
+                caffeineCache.getNativeCache().estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+            );
+        }
+        return new CacheStatsDto(CACHE_NAME, 0, 0, 0, 0, 0);
+    }
+}
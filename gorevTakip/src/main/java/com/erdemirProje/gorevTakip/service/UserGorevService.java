@@ -1,6 +1,7 @@
 package com.erdemirProje.gorevTakip.service;
 
 import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.TaskEventDto;
 import com.erdemirProje.gorevTakip.entity.GorevYapisi;
 import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
 import lombok.RequiredArgsConstructor;
@@ -8,13 +9,16 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserGorevService {
     
     private final GorevYapisiRepository gorevRepository;
+    private final UserTaskStatsCache statsCache;
+    private final TaskVersionStamps taskVersions;
+    private final TaskEventBroker taskEvents;
+    private final TaskTreeService taskTree;
     
     /**
      * Kullanıcının tüm görevlerini öncelik sırasına göre getir
@@ -23,10 +27,7 @@ public class UserGorevService {
      */
     public List<GorevDto> getUserTasksOrderedByPriority(Long userid) {
         try {
-            List<GorevYapisi> gorevListesi = gorevRepository.findByUseridOrderedByPriority(userid);
-            return gorevListesi.stream()
-                    .map(GorevDto::fromEntity)
-                    .collect(Collectors.toList());
+            return gorevRepository.findDtosByUseridOrderedByPriority(userid);
         } catch (Exception e) {
             return List.of(); // Hata durumunda boş liste döndür
         }
@@ -39,10 +40,7 @@ public class UserGorevService {
      */
     public List<GorevDto> getUserActiveTasksOrderedByPriority(Long userid) {
         try {
-            List<GorevYapisi> gorevListesi = gorevRepository.findActiveTasksByUseridOrderedByPriority(userid);
-            return gorevListesi.stream()
-                    .map(GorevDto::fromEntity)
-                    .collect(Collectors.toList());
+            return gorevRepository.findActiveTaskDtosByUseridOrderedByPriority(userid);
         } catch (Exception e) {
             return List.of();
         }
@@ -56,10 +54,7 @@ public class UserGorevService {
      */
     public List<GorevDto> getUserTasksByStatus(Long userid, String status) {
         try {
-            List<GorevYapisi> gorevListesi = gorevRepository.findByUserIdAndStatus(userid, status);
-            return gorevListesi.stream()
-                    .map(GorevDto::fromEntity)
-                    .collect(Collectors.toList());
+            return gorevRepository.findDtosByUseridAndStatus(userid, status);
         } catch (Exception e) {
             return List.of();
         }
@@ -83,8 +78,13 @@ public class UserGorevService {
                     return false; // Yetkisiz erişim
                 }
                 
+                String oldStatus = gorev.getStatus();
                 gorev.setStatus("COMPLETED");
                 gorevRepository.save(gorev);
+                statsCache.invalidate(userid);
+                taskTree.statusChanged(gorev, oldStatus);
+                taskVersions.taskChanged(gorev);
+                taskEvents.publish(TaskEventDto.Type.STATUS_CHANGED, gorev);
                 return true;
             }
             return false; // Görev bulunamadı
@@ -117,8 +117,13 @@ public class UserGorevService {
                     return false;
                 }
                 
+                String oldStatus = gorev.getStatus();
                 gorev.setStatus(newStatus);
                 gorevRepository.save(gorev);
+                statsCache.invalidate(userid);
+                taskTree.statusChanged(gorev, oldStatus);
+                taskVersions.taskChanged(gorev);
+                taskEvents.publish(TaskEventDto.Type.STATUS_CHANGED, gorev);
                 return true;
             }
             return false;
@@ -129,21 +134,35 @@ public class UserGorevService {
     
     /**
      * Kullanıcının görev istatistiklerini getir
+     * Sayaçlar önbellekten okunur; önbellekte yoksa tek bir toplama sorgusu ile yüklenir
      * @param userid Kullanıcı ID'si
      * @return İstatistik bilgileri
      */
     public UserTaskStats getUserTaskStats(Long userid) {
         try {
-            Long totalTasks = gorevRepository.countGorevlerByUserid(userid);
-            Long completedTasks = gorevRepository.countCompletedTasksByUserid(userid);
-            Long activeTasks = gorevRepository.countActiveTasksByUserid(userid);
-            
-            return new UserTaskStats(totalTasks, activeTasks, completedTasks);
+            UserTaskStatsCache.Counters counters = statsCache.get(userid, () -> loadCounters(userid));
+            return new UserTaskStats(counters.total(), counters.active(), counters.completed());
         } catch (Exception e) {
             return new UserTaskStats(0L, 0L, 0L);
         }
     }
     
+    /**
+     * Kullanıcının görev sayaçlarını veritabanından yükle
+     */
+    private UserTaskStatsCache.Counters loadCounters(Long userid) {
+        GorevYapisiRepository.TaskStatCounts counts = gorevRepository.countTaskStatsByUserid(userid);
+        return new UserTaskStatsCache.Counters(
+            valueOrZero(counts.getTotal()),
+            valueOrZero(counts.getActive()),
+            valueOrZero(counts.getCompleted())
+        );
+    }
+    
+    private static long valueOrZero(Long value) {
+        return value != null ? value : 0L;
+    }
+    
     /**
      * Status değerinin geçerli olup olmadığını kontrol et
      */
@@ -0,0 +1,143 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.UserDto;
+import com.erdemirProje.gorevTakip.entity.UserHierarchy;
+import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
+import com.erdemirProje.gorevTakip.repository.UserHierarchyRepository;
+import com.erdemirProje.gorevTakip.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Çok seviyeli organizasyon ağacı sorguları (user_hierarchy closure table)
+ * Ağaç users.manager_id ile tutulur; closure table her kullanıcıyı tüm üstlerine bağlar.
+ * "X'in altındaki herkes" ve "X'in organizasyonundaki tüm görevler" ağaç derinliğinden
+ * bağımsız olarak tek sorgu ile okunur. Kullanıcı yazmaları AuthService üzerinden buraya gelir.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserHierarchyService {
+
+    // Yeniden kurulumda bir kerede yazılacak satır sayısı
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final UserHierarchyRepository hierarchyRepository;
+    private final UserRepository userRepository;
+    private final GorevYapisiRepository gorevRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Kullanıcının altındaki tüm kullanıcılar (her derinlikte)
+     */
+    public List<UserDto> getDescendants(Long userId) {
+        return hierarchyRepository.findDescendantDtos(userId);
+    }
+
+    /**
+     * Kullanıcının altındaki tüm organizasyonun görevleri
+     */
+    public List<GorevDto> getOrgTasks(Long userId) {
+        return gorevRepository.findOrgTaskDtos(userId);
+    }
+
+    /**
+     * ancestorId, userId'nin üstlerinden biri mi (veya kendisi mi)
+     */
+    public boolean isInSubtree(Long ancestorId, Long userId) {
+        return hierarchyRepository.existsByAncestorIdAndDescendantId(ancestorId, userId);
+    }
+
+    /**
+     * Yeni kaydedilen kullanıcıyı ağaca ekle
+     */
+    @Transactional
+    public void userCreated(Long userId, Long managerId) {
+        hierarchyRepository.insertSelf(userId);
+        if (managerId != null) {
+            hierarchyRepository.attachSubtree(userId, managerId);
+        }
+    }
+
+    /**
+     * Kullanıcıyı (alt ağacıyla birlikte) yeni müdürün altına taşı
+     * @throws IllegalArgumentException Yeni müdür, kullanıcının kendi alt ağacındaysa (döngü)
+     */
+    @Transactional
+    public void managerChanged(Long userId, Long newManagerId) {
+        if (newManagerId != null && isInSubtree(userId, newManagerId)) {
+            throw new IllegalArgumentException("Kullanıcı kendi alt ağacındaki birine bağlanamaz: " + userId + " -> " + newManagerId);
+        }
+        hierarchyRepository.detachSubtree(userId);
+        if (newManagerId != null) {
+            hierarchyRepository.attachSubtree(userId, newManagerId);
+        }
+    }
+
+    /**
+     * Silinen kullanıcıyı ve altındakileri ağaçtan çıkar (ekip üyeleri cascade ile silinir)
+     */
+    @Transactional
+    public void userDeleted(Long userId) {
+        hierarchyRepository.deleteSubtree(userId);
+    }
+
+    /**
+     * Açılışta closure table kullanıcılarla uyumlu değilse baştan kur
+     * (ör. migration öncesi / doğrudan repository ile oluşturulan kullanıcılar)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void verifyOnStartup() {
+        long registered = hierarchyRepository.countByDepth(0);
+        long users = userRepository.count();
+        if (registered != users) {
+            log.info("Kullanıcı hiyerarşisi yeniden kuruluyor - kayıtlı: {}, kullanıcı: {}", registered, users);
+            rebuild();
+        }
+    }
+
+    /**
+     * Closure table'ı users.manager_id üzerinden baştan kur
+     */
+    @Transactional
+    public void rebuild() {
+        hierarchyRepository.deleteAllInBatch();
+        // Silinen satırların yönetilen kopyaları aynı anahtarla tekrar persist edilmesin
+        entityManager.clear();
+
+        Map<Long, Long> managerOf = new HashMap<>();
+        for (UserRepository.TeamLink link : userRepository.findAllManagerLinks()) {
+            managerOf.put(link.getMemberId(), link.getManagerId());
+        }
+
+        int pending = 0;
+        for (Long userId : managerOf.keySet()) {
+            // Bozuk veride (döngü) aynı üst ikinci kez yazılmaz
+            Set<Long> seen = new HashSet<>();
+            Long ancestorId = userId;
+            for (int depth = 0; ancestorId != null && seen.add(ancestorId); depth++) {
+                entityManager.persist(new UserHierarchy(ancestorId, userId, depth));
+                ancestorId = managerOf.get(ancestorId);
+                if (++pending % REBUILD_BATCH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,86 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Kullanıcı bazlı görev sayaçları için bellek içi önbellek
+ * Sayaçlar okunduğunda bir kez yüklenir; görev yazma işlemleri commit sonrasında sadece ilgili
+ * kullanıcının kaydını düşürür. Durum ekranı yazmadan çok daha sık okunduğu için istatistik
+ * endpoint'i çoğu zaman veritabanına gitmeden cevap verir.
+ */
+@Component
+public class UserTaskStatsCache {
+
+    // Kayıtlar bu süreden sonra veritabanından yeniden okunur (olası kaymalara karşı üst sınır)
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    // Önbellekte tutulacak en fazla kullanıcı sayısı (aşılınca az kullanılan kayıtlar tek tek çıkarılır)
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final ConcurrentMap<Long, Entry> entries = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(TTL)
+            .<Long, Entry>build()
+            .asMap();
+
+    /**
+     * Kullanıcının sayaçlarını getir, önbellekte yoksa loader ile yükle
+     */
+    public Counters get(Long userid, Supplier<Counters> loader) {
+        Entry entry = entries.computeIfAbsent(userid, id -> new Entry(null));
+        if (entry.counters() != null) {
+            return entry.counters();
+        }
+
+        Counters loaded = loader.get();
+        // Yükleme sürerken invalidate() kaydı düşürdüyse okunan değer yazmadan öncesine ait olabilir;
+        // kayıt hâlâ yüklemenin başında alınan nesne ise yerine yazılır, değilse önbelleğe alınmaz
+        entries.replace(userid, entry, new Entry(loaded));
+        return loaded;
+    }
+
+    /**
+     * Kullanıcının görevleri değişti: sayaçları commit sonrasında önbellekten çıkar
+     * Commit'ten önce çıkarılsaydı arada yüklenen eski sayılar yeniden önbelleğe girebilirdi.
+     */
+    public void invalidate(Long userid) {
+        if (userid != null) {
+            TransactionHooks.afterCommit(() -> entries.remove(userid));
+        }
+    }
+
+    /**
+     * Görev bir kullanıcıdan diğerine taşındı: iki kullanıcının sayaçları da düşer
+     */
+    public void invalidate(Long oldUserid, Long newUserid) {
+        invalidate(oldUserid);
+        if (newUserid != null && !newUserid.equals(oldUserid)) {
+            invalidate(newUserid);
+        }
+    }
+
+    // replace() eşitliği nesne kimliğiyle karşılaştırsın diye record değil (yükleme yer tutucuları birbirine eşit olmamalı)
+    private static final class Entry {
+
+        private final Counters counters;
+
+        private Entry(Counters counters) {
+            this.counters = counters;
+        }
+
+        Counters counters() {
+            return counters;
+        }
+    }
+
+    /**
+     * Kullanıcının görev sayaçları
+     */
+    public record Counters(long total, long active, long completed) {
+    }
+}
@@ -0,0 +1,33 @@
+-- V1__baseline_schema.sql
+-- Başlangıç şeması (ddl-auto=update ile oluşmuş veritabanlarında baseline olarak atlanır)
+
+IF OBJECT_ID('users', 'U') IS NULL
+CREATE TABLE users (
+    id BIGINT IDENTITY(1, 1) NOT NULL PRIMARY KEY,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL CHECK (role IN ('DIRECTOR', 'MANAGER', 'TEAM_MEMBER')),
+    full_name VARCHAR(255),
+    is_active BIT,
+    manager_id BIGINT NULL,
+    CONSTRAINT fk_users_manager FOREIGN KEY (manager_id) REFERENCES users (id)
+);
+GO
+
+IF OBJECT_ID('gorev_yapisi', 'U') IS NULL
+CREATE TABLE gorev_yapisi (
+    gorevid BIGINT IDENTITY(1, 1) NOT NULL PRIMARY KEY,
+    isim VARCHAR(255),
+    description VARCHAR(255),
+    userid BIGINT NULL,
+    priority VARCHAR(255),
+    status VARCHAR(255),
+    reported_to_director BIT DEFAULT 0,
+    assigned_by_id BIGINT NULL,
+    parent_task_id BIGINT NULL,
+    CONSTRAINT fk_gorev_user FOREIGN KEY (userid) REFERENCES users (id),
+    CONSTRAINT fk_gorev_assigned_by FOREIGN KEY (assigned_by_id) REFERENCES users (id),
+    CONSTRAINT fk_gorev_parent_task FOREIGN KEY (parent_task_id) REFERENCES gorev_yapisi (gorevid)
+);
+GO
@@ -1,7 +1,10 @@
 -- V2__add_manager_type.sql
 -- Kullanıcı tablosuna manager_type sütunu ekleme
 
-ALTER TABLE users ADD COLUMN manager_type VARCHAR(255);
+IF COL_LENGTH('users', 'manager_type') IS NULL
+    ALTER TABLE users ADD manager_type VARCHAR(255);
+GO
 
 -- Mevcut müdürlere varsayılan değer atama
-UPDATE users SET manager_type = 'Genel Müdür' WHERE role = 'MANAGER' AND manager_type IS NULL; 
\ No newline at end of file
+UPDATE users SET manager_type = N'Genel Müdür' WHERE role = 'MANAGER' AND manager_type IS NULL;
+GO
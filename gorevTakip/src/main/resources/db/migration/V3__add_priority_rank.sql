@@ -0,0 +1,24 @@
+-- V3__add_priority_rank.sql
+-- Görev önceliği için sıralanabilir priority_rank sütunu ve kullanıcı bazlı sıralı index'ler
+
+IF COL_LENGTH('gorev_yapisi', 'priority_rank') IS NULL
+    ALTER TABLE gorev_yapisi ADD priority_rank INT NULL;
+GO
+
+-- Mevcut Türkçe ve İngilizce öncelik değerlerini sıraya çevir (1 = yüksek ... 4 = belirsiz)
+UPDATE gorev_yapisi SET priority_rank = CASE LOWER(LTRIM(RTRIM(priority)))
+    WHEN N'yüksek' THEN 1
+    WHEN N'high' THEN 1
+    WHEN N'orta' THEN 2
+    WHEN N'medium' THEN 2
+    WHEN N'düşük' THEN 3
+    WHEN N'low' THEN 3
+    ELSE 4 END;
+GO
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_gorev_user_priority' AND object_id = OBJECT_ID('gorev_yapisi'))
+    CREATE INDEX ix_gorev_user_priority ON gorev_yapisi (userid, priority_rank, gorevid);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_gorev_user_status_priority' AND object_id = OBJECT_ID('gorev_yapisi'))
+    CREATE INDEX ix_gorev_user_status_priority ON gorev_yapisi (userid, status, priority_rank, gorevid);
+GO
@@ -0,0 +1,23 @@
+-- V4__add_hot_predicate_indexes.sql
+-- Panel sorgularında sık kullanılan koşullar için index'ler
+
+-- findManagerAssignedTeamTasks / findManagerVisibleTasks: assigned_by_id = ?
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_gorev_assigned_by' AND object_id = OBJECT_ID('gorev_yapisi'))
+    CREATE INDEX ix_gorev_assigned_by ON gorev_yapisi (assigned_by_id, gorevid);
+
+-- findDirectorVisibleTasks: parent_task_id IS NULL
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_gorev_parent_task' AND object_id = OBJECT_ID('gorev_yapisi'))
+    CREATE INDEX ix_gorev_parent_task ON gorev_yapisi (parent_task_id, gorevid);
+
+-- findReportedToDirector: reported_to_director = 1 ORDER BY gorevid DESC
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_gorev_reported' AND object_id = OBJECT_ID('gorev_yapisi'))
+    CREATE INDEX ix_gorev_reported ON gorev_yapisi (reported_to_director, gorevid);
+
+-- findByManagerId / countTeamMembersByManagerId: manager_id = ?
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_users_manager' AND object_id = OBJECT_ID('users'))
+    CREATE INDEX ix_users_manager ON users (manager_id);
+
+-- findActiveManagers / findActiveTeamMembers / findUnassignedTeamMembers: role = ? AND is_active = 1
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'ix_users_role_active' AND object_id = OBJECT_ID('users'))
+    CREATE INDEX ix_users_role_active ON users (role, is_active);
+GO
@@ -0,0 +1,72 @@
+-- V5__identity_to_sequence.sql
+-- users ve gorev_yapisi id'lerini IDENTITY'den sequence'e taşır (Hibernate insert batching için)
+-- SQL Server'da IDENTITY özelliği kaldırılamadığı için tablolar kopyalanıp yeniden oluşturulur
+
+-- 1. Bu tablolara bağlı tüm foreign key'leri kaldır (ddl-auto ile oluşanların isimleri veritabanına göre değişir)
+DECLARE @sql NVARCHAR(MAX) = N'';
+SELECT @sql += N'ALTER TABLE ' + QUOTENAME(OBJECT_NAME(fk.parent_object_id)) + N' DROP CONSTRAINT ' + QUOTENAME(fk.name) + N';'
+FROM sys.foreign_keys fk
+WHERE fk.parent_object_id IN (OBJECT_ID('users'), OBJECT_ID('gorev_yapisi'))
+   OR fk.referenced_object_id IN (OBJECT_ID('users'), OBJECT_ID('gorev_yapisi'));
+EXEC sp_executesql @sql;
+GO
+
+-- 2. users: CAST ile kopyalanan id sütunu IDENTITY özelliğini taşımaz
+SELECT CAST(id AS BIGINT) AS id, username, password, email, role, full_name, is_active, manager_type, manager_id
+INTO users_new
+FROM users;
+GO
+
+DROP TABLE users;
+EXEC sp_rename 'users_new', 'users';
+GO
+
+ALTER TABLE users ALTER COLUMN id BIGINT NOT NULL;
+GO
+
+ALTER TABLE users ADD CONSTRAINT pk_users PRIMARY KEY (id);
+ALTER TABLE users ADD CONSTRAINT uk_users_username UNIQUE (username);
+ALTER TABLE users ADD CONSTRAINT ck_users_role CHECK (role IN ('DIRECTOR', 'MANAGER', 'TEAM_MEMBER'));
+CREATE INDEX ix_users_manager ON users (manager_id);
+CREATE INDEX ix_users_role_active ON users (role, is_active);
+GO
+
+-- 3. gorev_yapisi
+SELECT CAST(gorevid AS BIGINT) AS gorevid, isim, description, userid, priority, priority_rank, status,
+       reported_to_director, assigned_by_id, parent_task_id
+INTO gorev_yapisi_new
+FROM gorev_yapisi;
+GO
+
+DROP TABLE gorev_yapisi;
+EXEC sp_rename 'gorev_yapisi_new', 'gorev_yapisi';
+GO
+
+ALTER TABLE gorev_yapisi ALTER COLUMN gorevid BIGINT NOT NULL;
+GO
+
+ALTER TABLE gorev_yapisi ADD CONSTRAINT pk_gorev_yapisi PRIMARY KEY (gorevid);
+ALTER TABLE gorev_yapisi ADD CONSTRAINT df_gorev_reported DEFAULT 0 FOR reported_to_director;
+CREATE INDEX ix_gorev_user_priority ON gorev_yapisi (userid, priority_rank, gorevid);
+CREATE INDEX ix_gorev_user_status_priority ON gorev_yapisi (userid, status, priority_rank, gorevid);
+CREATE INDEX ix_gorev_assigned_by ON gorev_yapisi (assigned_by_id, gorevid);
+CREATE INDEX ix_gorev_parent_task ON gorev_yapisi (parent_task_id, gorevid);
+CREATE INDEX ix_gorev_reported ON gorev_yapisi (reported_to_director, gorevid);
+GO
+
+-- 4. Foreign key'leri sabit isimlerle yeniden oluştur
+ALTER TABLE users ADD CONSTRAINT fk_users_manager FOREIGN KEY (manager_id) REFERENCES users (id);
+ALTER TABLE gorev_yapisi ADD CONSTRAINT fk_gorev_user FOREIGN KEY (userid) REFERENCES users (id);
+ALTER TABLE gorev_yapisi ADD CONSTRAINT fk_gorev_assigned_by FOREIGN KEY (assigned_by_id) REFERENCES users (id);
+ALTER TABLE gorev_yapisi ADD CONSTRAINT fk_gorev_parent_task FOREIGN KEY (parent_task_id) REFERENCES gorev_yapisi (gorevid);
+GO
+
+-- 5. Sequence'ler: Hibernate pooled optimizer [değer - 49, değer] aralığını kullanır,
+--    bu yüzden başlangıç değeri mevcut en büyük id + allocationSize(50) olmalı
+DECLARE @usersStart BIGINT = (SELECT ISNULL(MAX(id), 0) + 50 FROM users);
+DECLARE @gorevStart BIGINT = (SELECT ISNULL(MAX(gorevid), 0) + 50 FROM gorev_yapisi);
+DECLARE @seqSql NVARCHAR(MAX) =
+    N'CREATE SEQUENCE users_seq AS BIGINT START WITH ' + CAST(@usersStart AS NVARCHAR(20)) + N' INCREMENT BY 50;' +
+    N'CREATE SEQUENCE gorev_yapisi_seq AS BIGINT START WITH ' + CAST(@gorevStart AS NVARCHAR(20)) + N' INCREMENT BY 50;';
+EXEC sp_executesql @seqSql;
+GO
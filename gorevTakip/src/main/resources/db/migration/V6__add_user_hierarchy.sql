@@ -0,0 +1,27 @@
+-- V6__add_user_hierarchy.sql
+-- Çok seviyeli organizasyon sorguları için closure table: her kullanıcı ile tüm üstleri (kendisi dahil)
+
+CREATE TABLE user_hierarchy (
+    ancestor_id BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth INT NOT NULL,
+    CONSTRAINT pk_user_hierarchy PRIMARY KEY (ancestor_id, descendant_id)
+);
+GO
+
+-- Bir kullanıcının üstleri (taşıma / silme işlemlerinde)
+CREATE INDEX ix_user_hierarchy_descendant ON user_hierarchy (descendant_id, ancestor_id, depth);
+GO
+
+-- Mevcut users.manager_id ağacından doldur (MAXRECURSION: bozuk veride döngüye karşı sınır)
+WITH paths (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM users
+    UNION ALL
+    SELECT p.ancestor_id, u.id, p.depth + 1
+    FROM paths p
+    JOIN users u ON u.manager_id = p.descendant_id
+)
+INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth)
+SELECT ancestor_id, descendant_id, depth FROM paths
+OPTION (MAXRECURSION 1000);
+GO
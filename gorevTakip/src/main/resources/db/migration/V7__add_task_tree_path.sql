@@ -0,0 +1,24 @@
+-- V7__add_task_tree_path.sql
+-- Görev ağacı için materialized path: üst görevlerin id'leri kökten başlayarak ("/" kök görev, "/12/45/" 45'in child'ı)
+-- Bir görevin tüm alt ağacı tek bir önek (LIKE '/12/45/%') sorgusu ile okunur
+
+ALTER TABLE gorev_yapisi ADD tree_path VARCHAR(450) NULL;
+GO
+
+-- Mevcut parent_task_id ağacından doldur (MAXRECURSION: bozuk veride döngüye karşı sınır)
+WITH paths (gorevid, tree_path) AS (
+    SELECT gorevid, CAST('/' AS VARCHAR(450)) FROM gorev_yapisi WHERE parent_task_id IS NULL
+    UNION ALL
+    SELECT g.gorevid, CAST(p.tree_path + CAST(p.gorevid AS VARCHAR(20)) + '/' AS VARCHAR(450))
+    FROM paths p
+    JOIN gorev_yapisi g ON g.parent_task_id = p.gorevid
+)
+UPDATE g SET tree_path = p.tree_path
+FROM gorev_yapisi g
+JOIN paths p ON p.gorevid = g.gorevid
+OPTION (MAXRECURSION 1000);
+GO
+
+-- Alt ağaç okumaları (önek araması index üzerinde aralık taraması olur)
+CREATE INDEX ix_gorev_tree_path ON gorev_yapisi (tree_path, gorevid);
+GO
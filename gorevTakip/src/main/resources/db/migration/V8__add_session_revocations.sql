@@ -0,0 +1,15 @@
+-- V8__add_session_revocations.sql
+-- Çıkış ve kullanıcı bazlı oturum geçersiz kılmaları; tüm uygulama örnekleri id sırasıyla okur
+
+CREATE TABLE session_revocations (
+    id BIGINT IDENTITY(1, 1) NOT NULL PRIMARY KEY,
+    token_id VARCHAR(32) NULL,
+    user_id BIGINT NULL,
+    revoked_at BIGINT NOT NULL,
+    expires_at BIGINT NOT NULL
+);
+GO
+
+-- Süresi dolan kayıtların temizliği
+CREATE INDEX ix_session_revocations_expires ON session_revocations (expires_at);
+GO
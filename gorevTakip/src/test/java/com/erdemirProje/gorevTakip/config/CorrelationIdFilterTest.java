@@ -0,0 +1,44 @@
+package com.erdemirProje.gorevTakip.config;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorrelationIdFilterTest {
+
+	private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+	@Test
+	void incomingRequestIdIsUsedDuringRequestAndEchoed() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/manager/team");
+		request.addHeader(CorrelationIdFilter.REQUEST_ID_HEADER, "lb-42_a");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<String> seen = new AtomicReference<>();
+
+		filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(CorrelationIdFilter.REQUEST_ID_MDC_KEY)));
+
+		assertThat(seen.get()).isEqualTo("lb-42_a");
+		assertThat(response.getHeader(CorrelationIdFilter.REQUEST_ID_HEADER)).isEqualTo("lb-42_a");
+		assertThat(MDC.get(CorrelationIdFilter.REQUEST_ID_MDC_KEY)).isNull();
+	}
+
+	@Test
+	void missingOrUnsafeRequestIdIsReplaced() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/gorev");
+		request.addHeader(CorrelationIdFilter.REQUEST_ID_HEADER, "abc\nSAHTE LOG SATIRI");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, new MockFilterChain());
+
+		String requestId = response.getHeader(CorrelationIdFilter.REQUEST_ID_HEADER);
+		assertThat(requestId).matches("[0-9a-f]{32}");
+		assertThat(CorrelationIdFilter.resolveRequestId(null)).isNotEqualTo(requestId).hasSize(32);
+		assertThat(CorrelationIdFilter.resolveRequestId("x".repeat(65))).hasSize(32);
+	}
+}
@@ -0,0 +1,56 @@
+package com.erdemirProje.gorevTakip.config;
+
+import com.erdemirProje.gorevTakip.service.AuthService;
+import com.erdemirProje.gorevTakip.service.InMemorySessionStore;
+import com.erdemirProje.gorevTakip.service.SessionTokenCodec;
+import com.erdemirProje.gorevTakip.service.TaskEventBroker;
+import com.erdemirProje.gorevTakip.service.TaskSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetricsConfigTest {
+
+	private final MetricsConfig metricsConfig = new MetricsConfig();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void sessionGaugesFollowStore() {
+		InMemorySessionStore sessionStore = new InMemorySessionStore();
+		SessionTokenCodec tokenCodec = mock(SessionTokenCodec.class);
+		AuthService authService = mock(AuthService.class);
+		when(tokenCodec.getIssuedTokens()).thenReturn(7L);
+		when(tokenCodec.getExpiredTokens()).thenReturn(2L);
+		when(authService.getRejectedRevokedTokens()).thenReturn(1L);
+
+		metricsConfig.sessionMetrics(sessionStore, tokenCodec, authService).bindTo(registry);
+		long expiresAt = System.currentTimeMillis() + 60_000;
+		sessionStore.revokeToken("a", expiresAt);
+		sessionStore.revokeToken("b", expiresAt);
+		sessionStore.revokeUser(5L, System.currentTimeMillis());
+
+		assertThat(registry.get("gorev.session.store.revoked.tokens").gauge().value()).isEqualTo(2.0);
+		assertThat(registry.get("gorev.session.store.revoked.users").gauge().value()).isEqualTo(1.0);
+		assertThat(registry.get("gorev.session.tokens.issued").functionCounter().count()).isEqualTo(7.0);
+		assertThat(registry.get("gorev.session.tokens.rejected").tag("reason", "expired").functionCounter().count())
+				.isEqualTo(2.0);
+		assertThat(registry.get("gorev.session.tokens.rejected").tag("reason", "revoked").functionCounter().count())
+				.isEqualTo(1.0);
+	}
+
+	@Test
+	void indexAndStreamGaugesAreRegistered() {
+		TaskSearchIndex searchIndex = mock(TaskSearchIndex.class);
+		TaskEventBroker taskEvents = mock(TaskEventBroker.class);
+		when(searchIndex.size()).thenReturn(120);
+		when(taskEvents.getSubscriptionCount()).thenReturn(3);
+
+		metricsConfig.taskIndexMetrics(searchIndex, taskEvents).bindTo(registry);
+
+		assertThat(registry.get("gorev.search.index.tasks").gauge().value()).isEqualTo(120.0);
+		assertThat(registry.get("gorev.stream.subscriptions").gauge().value()).isEqualTo(3.0);
+	}
+}
@@ -0,0 +1,120 @@
+package com.erdemirProje.gorevTakip.controller;
+
+import com.erdemirProje.gorevTakip.dto.BulkTaskResponse;
+import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
+import com.erdemirProje.gorevTakip.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.erdemirProje.gorevTakip.support.TestFixtures.task;
+import static com.erdemirProje.gorevTakip.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Genel görev endpoint'lerinin yetki kontrolü ve NDJSON toplu eklemede satır bazında hata
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class GorevControllerTest {
+
+	private static final SessionPrincipal DIRECTOR = new SessionPrincipal(1L, User.Role.DIRECTOR, null);
+	private static final SessionPrincipal MANAGER = new SessionPrincipal(2L, User.Role.MANAGER, null);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private GorevController gorevController;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private GorevYapisiRepository gorevRepository;
+
+	@Test
+	void malformedNdjsonLineIsRejectedAndOtherLinesAreCreated() {
+		User user = new User();
+		user.setUsername("ndjson-user");
+		user.setPassword("x");
+		user.setEmail("ndjson-user@gorevtakip.com");
+		user = userRepository.save(user);
+		String govde = """
+				{"isim":"Birinci","userid":%d}
+				{"isim":"Bozuk",
+				
+				{"isim":"Üçüncü","userid":%d}
+				{"isim":"Dördüncü","userid":999999}
+				""".formatted(user.getId(), user.getId());
+
+		ResponseEntity<BulkTaskResponse> yanit = gorevController.gorevleriTopluEkleNdjson(
+				new ByteArrayInputStream(govde.getBytes(StandardCharsets.UTF_8)), DIRECTOR);
+
+		assertThat(yanit.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+		BulkTaskResponse sonuc = yanit.getBody();
+		assertThat(sonuc.getTotal()).isEqualTo(4);
+		assertThat(sonuc.getCreated()).isEqualTo(2);
+		assertThat(sonuc.getResults()).extracting(BulkTaskResponse.ItemResult::getIndex).containsExactly(0, 1, 2, 3);
+		assertThat(sonuc.getResults()).extracting(BulkTaskResponse.ItemResult::isSuccess)
+				.containsExactly(true, false, true, false);
+		assertThat(sonuc.getResults().get(1).getMessage()).contains("satır 2");
+		assertThat(sonuc.getResults().get(3).getMessage()).contains("999999");
+		assertThat(gorevRepository.findById(sonuc.getResults().get(2).getGorevid())).isPresent();
+	}
+
+	@Test
+	void requestsWithoutSessionAreUnauthorized() throws Exception {
+		mockMvc.perform(get("/api/gorev/tumunu-getir")).andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/api/gorev/sayfali")).andExpect(status().isUnauthorized());
+		mockMvc.perform(post("/api/gorev/ekle-toplu").contentType(MediaType.APPLICATION_JSON).content("[]"))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(post("/api/gorev/ekle-toplu").contentType("application/x-ndjson").content(""))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(delete("/api/gorev/sil/1")).andExpect(status().isUnauthorized());
+		mockMvc.perform(put("/api/gorev/guncelle/1").contentType(MediaType.APPLICATION_JSON).content("{}"))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/api/gorev/tumunu-getir").header("Authorization", "Bearer gecersiz"))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void nonDirectorsAreForbidden() {
+		User owner = userRepository.save(user("yetki-user", User.Role.TEAM_MEMBER, null));
+		GorevYapisi gorev = gorevRepository.save(task("Yetki", owner, null, "PENDING"));
+		GorevDto degisiklik = new GorevDto();
+		degisiklik.setStatus("COMPLETED");
+
+		assertThat(gorevController.tumGorevleriGetir(MANAGER).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+		assertThat(gorevController.gorevleriSayfaliGetir(null, null, MANAGER).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+		assertThat(gorevController.gorevleriTopluEkle(List.of(), MANAGER).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+		assertThat(gorevController.gorevleriTopluEkleNdjson(new ByteArrayInputStream(new byte[0]), MANAGER).getStatusCode())
+				.isEqualTo(HttpStatus.FORBIDDEN);
+		assertThat(gorevController.gorevSil(gorev.getGorevid(), MANAGER).getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+		assertThat(gorevController.gorevGuncelle(gorev.getGorevid(), degisiklik, MANAGER).getStatusCode())
+				.isEqualTo(HttpStatus.FORBIDDEN);
+		assertThat(gorevRepository.findById(gorev.getGorevid())).get()
+				.extracting(GorevYapisi::getStatus).isEqualTo("PENDING");
+
+		assertThat(gorevController.gorevGuncelle(gorev.getGorevid(), degisiklik, DIRECTOR).getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(gorevController.gorevSil(gorev.getGorevid(), DIRECTOR).getStatusCode()).isEqualTo(HttpStatus.OK);
+	}
+}
@@ -0,0 +1,45 @@
+package com.erdemirProje.gorevTakip.gorevRepo;
+
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static com.erdemirProje.gorevTakip.support.TestFixtures.task;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Direktöre rapor sorgularının koşulları
+ * (panel sorgularının SQL sayısı servis seviyesinde: PanelServiceStatementCountTest)
+ */
+@DataJpaTest(properties = "spring.flyway.enabled=false")
+class GorevYapisiRepositoryTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private GorevYapisiRepository gorevRepository;
+
+	@Test
+	void reportUpdateAppliesSameConditionsAsLockedSelect() {
+		TestFixtures.TeamOrg org = TestFixtures.seedTeam(entityManager, "r-", 3);
+		User manager = entityManager.find(User.class, org.managerId());
+		// Müdürün kendine atadığı tamamlanmış görev: ekip üyesi görevi olmadığı için rapor edilemez
+		entityManager.persist(task("kendi", manager, manager, "COMPLETED"));
+		entityManager.flush();
+		List<Long> allIds = entityManager.getEntityManager()
+				.createQuery("SELECT g.gorevid FROM GorevYapisi g", Long.class)
+				.getResultList();
+
+		List<Long> reportable = gorevRepository.lockReportableTaskIds(org.managerId(), allIds);
+		int updated = gorevRepository.markReportedToDirector(org.managerId(), allIds);
+
+		assertThat(reportable).hasSize(3);
+		assertThat(updated).isEqualTo(reportable.size());
+	}
+}
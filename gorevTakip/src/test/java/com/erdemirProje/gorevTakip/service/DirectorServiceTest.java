@@ -0,0 +1,53 @@
+package com.erdemirProje.gorevTakip.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DirectorServiceTest {
+
+	private static final long DIRECTOR_ID = 1L;
+
+	private final Logger serviceLogger = (Logger) LoggerFactory.getLogger(DirectorService.class);
+	private Level previousLevel;
+
+	private GorevYapisiRepository gorevRepository;
+	private DirectorService directorService;
+
+	@BeforeEach
+	void setUp() {
+		previousLevel = serviceLogger.getLevel();
+		serviceLogger.setLevel(Level.INFO);
+		gorevRepository = mock(GorevYapisiRepository.class);
+		directorService = new DirectorService(gorevRepository);
+	}
+
+	@AfterEach
+	void tearDown() {
+		serviceLogger.setLevel(previousLevel);
+	}
+
+	@Test
+	void rowsAreNotVisitedWhenTraceIsDisabled() {
+		GorevDto task = mock(GorevDto.class);
+		when(gorevRepository.findDirectorVisibleTaskDtos(DIRECTOR_ID)).thenReturn(List.of(task, task));
+
+		assertThat(directorService.getDirectorVisibleTasks(DIRECTOR_ID)).hasSize(2);
+
+		verify(task, never()).getIsim();
+		verify(task, never()).getUserid();
+	}
+}
@@ -0,0 +1,88 @@
+package com.erdemirProje.gorevTakip.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedFileSessionStoreTest {
+
+	private static final long HOUR = 60 * 60 * 1000L;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void revocationsSurviveRestart() throws IOException {
+		long now = System.currentTimeMillis();
+		try (MappedFileSessionStore store = new MappedFileSessionStore(directory, 64 * 1024)) {
+			assertThat(store.revokeToken("cikis-yapan", now + HOUR)).isTrue();
+			assertThat(store.revokeToken("cikis-yapan", now + HOUR)).isFalse();
+			store.revokeToken("suresi-dolan", now - 1);
+			store.revokeUser(42L, now);
+		}
+
+		try (MappedFileSessionStore reopened = new MappedFileSessionStore(directory, 64 * 1024)) {
+			assertThat(reopened.isRevoked("cikis-yapan", 1L, now)).isTrue();
+			assertThat(reopened.isRevoked("baska-token", 42L, now - 10)).isTrue();
+			assertThat(reopened.isRevoked("baska-token", 42L, now + 10)).isFalse();
+			// Süresi dolmuş kayıt açılışta atlanır
+			assertThat(reopened.getRevokedTokenCount()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void compactionKeepsLiveRecordsWhenFileFills() throws IOException {
+		long now = System.currentTimeMillis();
+		// Küçük dosya: 1000 kayıt sığmaz, süresi dolanlar sıkıştırmayla atılmalı
+		try (MappedFileSessionStore store = new MappedFileSessionStore(directory, 4 * 1024)) {
+			for (int i = 0; i < 1000; i++) {
+				store.revokeToken("eski-" + i, now - 1);
+				store.removeExpired(now, HOUR);
+			}
+			store.revokeToken("canli", now + HOUR);
+		}
+
+		try (MappedFileSessionStore reopened = new MappedFileSessionStore(directory, 4 * 1024)) {
+			assertThat(reopened.isRevoked("canli", 1L, now)).isTrue();
+			assertThat(reopened.getRevokedTokenCount()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void compactionThatCannotKeepAllLiveRecordsMarksStoreFull() throws IOException {
+		long now = System.currentTimeMillis();
+		try (MappedFileSessionStore store = new MappedFileSessionStore(directory, 1024)) {
+			for (int i = 0; i < 200; i++) {
+				store.revokeToken("canli-" + i, now + HOUR);
+			}
+			assertThat(store.isFull()).isTrue();
+			// Dosyaya sığmayanlar bellekte geçersiz kalmaya devam eder
+			assertThat(store.getRevokedTokenCount()).isEqualTo(200);
+		}
+
+		try (MappedFileSessionStore reopened = new MappedFileSessionStore(directory, 1024)) {
+			assertThat(reopened.getRevokedTokenCount()).isPositive().isLessThan(200);
+		}
+	}
+
+	@Test
+	void inMemoryStoreRejectsRevokedTokensAndUsers() {
+		InMemorySessionStore store = new InMemorySessionStore();
+		long now = System.currentTimeMillis();
+
+		store.revokeToken("a", now + HOUR);
+		store.revokeUser(8L, now);
+
+		assertThat(store.isRevoked("a", 7L, now)).isTrue();
+		assertThat(store.isRevoked("b", 8L, now)).isTrue();
+		assertThat(store.isRevoked("c", 9L, now)).isFalse();
+
+		store.removeExpired(now + 2 * HOUR, HOUR);
+		assertThat(store.getRevokedTokenCount()).isZero();
+		assertThat(store.getRevokedUserCount()).isZero();
+	}
+}
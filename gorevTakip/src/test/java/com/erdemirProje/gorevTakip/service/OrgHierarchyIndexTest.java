@@ -0,0 +1,99 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.UserDto;
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrgHierarchyIndexTest {
+
+	private UserRepository userRepository;
+	private OrgHierarchyIndex index;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		when(userRepository.findActiveTeamLinks()).thenReturn(List.of(
+			link(12L, 2L), link(10L, 2L), link(11L, 2L), link(20L, 3L)
+		));
+		index = new OrgHierarchyIndex(userRepository);
+		index.rebuild();
+	}
+
+	@Test
+	void rebuildGroupsMembersByManagerInSortedOrder() {
+		assertThat(index.getMemberIds(2L)).containsExactly(10L, 11L, 12L);
+		assertThat(index.getMemberIds(3L)).containsExactly(20L);
+		assertThat(index.getMemberIds(99L)).isEmpty();
+		assertThat(index.getManagerId(11L)).isEqualTo(2L);
+		assertThat(index.isMemberOf(2L, 12L)).isTrue();
+		assertThat(index.isMemberOf(3L, 12L)).isFalse();
+	}
+
+	@Test
+	void updateMovesMemberBetweenManagers() {
+		index.update(teamMember(11L, 3L, true));
+
+		assertThat(index.getMemberIds(2L)).containsExactly(10L, 12L);
+		assertThat(index.getMemberIds(3L)).containsExactly(11L, 20L);
+		assertThat(index.getManagerId(11L)).isEqualTo(3L);
+	}
+
+	@Test
+	void inactiveOrPromotedUsersLeaveTheTeam() {
+		index.update(teamMember(10L, 2L, false));
+
+		UserDto promoted = teamMember(20L, null, true);
+		promoted.setRole(User.Role.MANAGER);
+		index.update(promoted);
+
+		assertThat(index.getMemberIds(2L)).containsExactly(11L, 12L);
+		assertThat(index.countMembers(3L)).isZero();
+		assertThat(index.getManagerId(10L)).isNull();
+		assertThat(index.getManagerId(20L)).isNull();
+	}
+
+	@Test
+	void removingManagerDropsItsTeam() {
+		index.remove(2L);
+
+		assertThat(index.countMembers(2L)).isZero();
+		assertThat(index.getManagerId(10L)).isNull();
+		assertThat(index.getMemberIds(3L)).containsExactly(20L);
+	}
+
+	@Test
+	void rebuildDropsStaleEntries() {
+		index.update(teamMember(30L, 4L, true));
+		index.rebuild();
+
+		assertThat(index.countMembers(4L)).isZero();
+		assertThat(index.getManagerId(30L)).isNull();
+	}
+
+	private static UserDto teamMember(Long id, Long managerId, boolean active) {
+		return new UserDto(id, "user" + id, "user" + id + "@gorevtakip.com", "Kullanıcı " + id,
+			User.Role.TEAM_MEMBER, active, null, managerId);
+	}
+
+	private static UserRepository.TeamLink link(Long memberId, Long managerId) {
+		return new UserRepository.TeamLink() {
+			@Override
+			public Long getMemberId() {
+				return memberId;
+			}
+
+			@Override
+			public Long getManagerId() {
+				return managerId;
+			}
+		};
+	}
+}
@@ -0,0 +1,123 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
+import com.erdemirProje.gorevTakip.repository.UserRepository;
+import com.erdemirProje.gorevTakip.support.TestFixtures;
+import com.erdemirProje.gorevTakip.support.TestFixtures.TeamOrg;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Panel endpoint'lerinin servis metotları (controller'ın çağırdığı yol, JSON'a yazım dahil)
+ * ekip ve görev sayısı büyüdükçe sabit sayıda SQL çalıştırmalı (N+1 olmamalı)
+ */
+@DataJpaTest(properties = {
+		"spring.flyway.enabled=false",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PanelServiceStatementCountTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private GorevYapisiRepository gorevRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private OrgHierarchyIndex hierarchy;
+	private DirectorService directorService;
+	private ManagerService managerService;
+
+	@BeforeEach
+	void setUp() {
+		hierarchy = new OrgHierarchyIndex(userRepository);
+		directorService = new DirectorService(gorevRepository);
+		// Olay yayını SSE bağlantıları ve zamanlayıcı gerektirdiği için mock, diğer bileşenler gerçek
+		managerService = new ManagerService(userRepository, gorevRepository, new UserTaskStatsCache(),
+				new UserCacheService(userRepository, new ConcurrentMapCacheManager()), hierarchy,
+				new TaskVersionStamps(0), mock(TaskEventBroker.class),
+				new TaskTreeService(gorevRepository), new TaskSearchIndex(gorevRepository));
+	}
+
+	@Test
+	void directorPanelUsesConstantStatementCount() {
+		assertConstantStatementCount(org -> directorService.getDirectorVisibleTasks(org.directorId()));
+	}
+
+	@Test
+	void managerTeamTasksUseConstantStatementCount() {
+		assertConstantStatementCount(org -> managerService.getTeamTasks(org.managerId()));
+	}
+
+	@Test
+	void managerOwnTasksUseConstantStatementCount() {
+		assertConstantStatementCount(org -> managerService.getManagerTasks(org.managerId()));
+	}
+
+	@Test
+	void managerCompletedTasksUseConstantStatementCount() {
+		assertConstantStatementCount(org -> managerService.getCompletedTasks(org.managerId()));
+	}
+
+	@Test
+	void managerTeamMembersUseConstantStatementCount() {
+		assertConstantStatementCount(org -> managerService.getTeamMembers(org.managerId()));
+	}
+
+	@Test
+	void managerTeamPerformanceUsesConstantStatementCount() {
+		assertConstantStatementCount(org -> managerService.getTeamPerformance(org.managerId()));
+	}
+
+	@Test
+	void teamPerformanceOfMissingManagerIsNull() {
+		TeamOrg org = TestFixtures.seedTeam(entityManager, "y-", 1);
+
+		// Controller null'ı 404'e çevirir
+		assertThat(managerService.getTeamPerformance(org.directorId())).isNull();
+		assertThat(managerService.getTeamPerformance(-1L)).isNull();
+		assertThat(managerService.getTeamPerformance(org.managerId())).isNotNull();
+	}
+
+	private void assertConstantStatementCount(Function<TeamOrg, Object> endpoint) {
+		long small = countStatements(3, endpoint);
+		long large = countStatements(30, endpoint);
+
+		assertThat(small).isPositive();
+		assertThat(large).isEqualTo(small);
+	}
+
+	private long countStatements(int teamSize, Function<TeamOrg, Object> endpoint) {
+		TeamOrg org = TestFixtures.seedTeam(entityManager, "p" + teamSize + "-", teamSize);
+		hierarchy.rebuild();
+
+		return TestFixtures.countStatements(entityManager, () -> {
+			Object response = endpoint.apply(org);
+			if (response instanceof Collection<?> rows) {
+				assertThat(rows).isNotEmpty();
+			}
+			try {
+				// Controller'ın yanıtı yazarken tetikleyebileceği lazy yüklemeler de sayılsın
+				objectMapper.writeValueAsString(response);
+			} catch (JsonProcessingException e) {
+				throw new AssertionError(e);
+			}
+		});
+	}
+}
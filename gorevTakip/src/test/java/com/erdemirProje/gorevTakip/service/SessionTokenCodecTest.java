@@ -0,0 +1,82 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
+import com.erdemirProje.gorevTakip.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionTokenCodecTest {
+
+	private static final long HOUR = 60 * 60 * 1000L;
+	private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+	private final SessionTokenCodec codec = new SessionTokenCodec(SECRET, 12, 0);
+
+	@Test
+	void signedTokenCarriesPrincipal() {
+		SessionPrincipal principal = new SessionPrincipal(7L, User.Role.TEAM_MEMBER, 3L);
+
+		SessionTokenCodec.Claims claims = codec.parse(codec.issue(principal)).orElseThrow();
+
+		assertThat(claims.principal()).isEqualTo(principal);
+		assertThat(claims.expiresAt()).isGreaterThan(claims.issuedAt());
+	}
+
+	@Test
+	void tamperedOrForeignTokensAreRejected() {
+		String token = codec.issue(new SessionPrincipal(7L, User.Role.TEAM_MEMBER, null));
+		String forged = codec.issue(new SessionPrincipal(1L, User.Role.DIRECTOR, null));
+		// Başka kullanıcının imzasıyla payload değiştirme
+		String swapped = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+		SessionTokenCodec otherNode = new SessionTokenCodec(
+				Base64.getEncoder().encodeToString(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16,
+						17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32}), 12, 0);
+
+		assertThat(codec.parse(swapped)).isEmpty();
+		assertThat(codec.parse("bozuk-token")).isEmpty();
+		assertThat(otherNode.parse(token)).isEmpty();
+		assertThat(codec.getInvalidTokens()).isEqualTo(2);
+	}
+
+	@Test
+	void missingSecretFailsStartup() {
+		assertThatThrownBy(() -> new SessionTokenCodec("", 12, 0)).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> new SessionTokenCodec(null, 12, 0)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void expiredTokenIsRejected() {
+		SessionTokenCodec shortLived = new SessionTokenCodec(SECRET, 0, 0);
+
+		assertThat(shortLived.parse(shortLived.issue(new SessionPrincipal(7L, User.Role.MANAGER, null)))).isEmpty();
+		assertThat(shortLived.getExpiredTokens()).isEqualTo(1);
+	}
+
+	@Test
+	void idleSessionIsExtendedWithTheSameTokenIdUntilTheAbsoluteLimit() {
+		SessionTokenCodec idle = new SessionTokenCodec(SECRET, 12, 30);
+		SessionPrincipal principal = new SessionPrincipal(7L, User.Role.TEAM_MEMBER, 3L);
+		long now = System.currentTimeMillis();
+
+		SessionTokenCodec.Claims fresh = idle.parse(idle.issue(principal)).orElseThrow();
+		assertThat(fresh.expiresAt() - fresh.issuedAt()).isEqualTo(30 * 60 * 1000L);
+		assertThat(idle.refresh(fresh)).isEmpty();
+
+		// Boşta kalma süresinin yarısından fazlası geçmiş token yenilenir
+		SessionTokenCodec.Claims aging = new SessionTokenCodec.Claims("oturum", principal, now - HOUR, now + 60_000);
+		SessionTokenCodec.Claims refreshed = idle.parse(idle.refresh(aging).orElseThrow()).orElseThrow();
+		assertThat(refreshed.tokenId()).isEqualTo("oturum");
+		assertThat(refreshed.issuedAt()).isEqualTo(aging.issuedAt());
+		assertThat(refreshed.expiresAt()).isGreaterThan(aging.expiresAt());
+
+		// Mutlak süre (12 saat) yenilemeyle aşılamaz
+		long issuedAt = now - 12 * HOUR + 60_000;
+		SessionTokenCodec.Claims ending = new SessionTokenCodec.Claims("oturum", principal, issuedAt, issuedAt + 12 * HOUR);
+		assertThat(idle.refresh(ending)).isEmpty();
+		assertThat(idle.sessionExpiresAt(ending)).isEqualTo(ending.expiresAt());
+	}
+}
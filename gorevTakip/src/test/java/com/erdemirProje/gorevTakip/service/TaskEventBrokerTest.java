@@ -0,0 +1,125 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.SessionPrincipal;
+import com.erdemirProje.gorevTakip.dto.TaskEventDto;
+import com.erdemirProje.gorevTakip.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEventBrokerTest {
+
+	private final Map<SseEmitter, BlockingQueue<String>> sent = new ConcurrentHashMap<>();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private volatile SseEmitter blocked;
+
+	private final TaskEventBroker broker = new TaskEventBroker(60_000, 4, 10, 2, 2) {
+		@Override
+		protected SseEmitter createEmitter(long timeout) {
+			SseEmitter emitter = new SseEmitter(timeout) {
+				@Override
+				public void send(SseEventBuilder builder) throws IOException {
+					if (this == blocked) {
+						try {
+							release.await(5, TimeUnit.SECONDS);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}
+					StringBuilder text = new StringBuilder();
+					builder.build().forEach(part -> text.append(part.getData()));
+					sent.get(this).add(text.toString());
+				}
+			};
+			sent.put(emitter, new LinkedBlockingQueue<>());
+			return emitter;
+		}
+	};
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		broker.shutdown();
+	}
+
+	@Test
+	void eventsReachOwnerAssignerAndDirectorsOnly() throws Exception {
+		SseEmitter owner = broker.subscribe(principal(10L, User.Role.TEAM_MEMBER));
+		SseEmitter manager = broker.subscribe(principal(2L, User.Role.MANAGER));
+		SseEmitter director = broker.subscribe(principal(1L, User.Role.DIRECTOR));
+		SseEmitter otherMember = broker.subscribe(principal(11L, User.Role.TEAM_MEMBER));
+
+		broker.publish(TaskEventDto.Type.TASK_CREATED, 100L, 10L, 2L, "PENDING");
+
+		assertThat(next(owner)).contains("event:task-created");
+		assertThat(next(manager)).contains("event:task-created");
+		assertThat(next(director)).contains("event:task-created");
+		assertThat(sent.get(otherMember).poll(200, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+	@Test
+	void reportedEventReachesTeamMembers() throws Exception {
+		SseEmitter member = broker.subscribe(principal(10L, User.Role.TEAM_MEMBER));
+
+		broker.reported(2L, List.of(100L, 101L), new long[] {10L, 11L});
+
+		assertThat(next(member)).contains("event:reported").contains("100");
+	}
+
+	@Test
+	void slowSubscriberGetsResyncInsteadOfUnboundedQueue() throws Exception {
+		SseEmitter slow = broker.subscribe(principal(10L, User.Role.TEAM_MEMBER));
+		blocked = slow;
+
+		for (long i = 0; i < 20; i++) {
+			broker.publish(TaskEventDto.Type.STATUS_CHANGED, i, 10L, null, "IN_PROGRESS");
+		}
+		release.countDown();
+
+		boolean resyncSent = false;
+		String message;
+		while ((message = sent.get(slow).poll(500, TimeUnit.MILLISECONDS)) != null) {
+			resyncSent |= message.contains("event:resync");
+		}
+		assertThat(broker.getOverflowCount()).isPositive();
+		assertThat(resyncSent).isTrue();
+	}
+
+	@Test
+	void subscriptionLimitsAreEnforced() {
+		SessionPrincipal member = principal(10L, User.Role.TEAM_MEMBER);
+
+		assertThat(broker.subscribe(member)).isNotNull();
+		assertThat(broker.subscribe(member)).isNotNull();
+		assertThat(broker.subscribe(member)).isNull();
+		assertThat(broker.getSubscriptionCount()).isEqualTo(2);
+	}
+
+	@Test
+	void idleSubscribersReceiveHeartbeat() throws Exception {
+		SseEmitter emitter = broker.subscribe(principal(10L, User.Role.TEAM_MEMBER));
+
+		broker.sendHeartbeats();
+
+		assertThat(next(emitter)).contains(":heartbeat");
+	}
+
+	private String next(SseEmitter emitter) throws InterruptedException {
+		return sent.get(emitter).poll(2, TimeUnit.SECONDS);
+	}
+
+	private static SessionPrincipal principal(Long userId, User.Role role) {
+		return new SessionPrincipal(userId, role, null);
+	}
+}
@@ -0,0 +1,99 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiPredicate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskSearchIndexTest {
+
+	private static final BiPredicate<Long, Long> ALL = (owner, assignedBy) -> true;
+
+	private TaskSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		GorevYapisiRepository gorevRepository = mock(GorevYapisiRepository.class);
+		when(gorevRepository.streamAllDtos()).thenReturn(Stream.of(
+			dto(1L, "İSTANBUL ofisi raporu", "Aylık satış özeti", 10L, 2L),
+			dto(2L, "Bütçe planı", "Istanbul ve Ankara şubeleri için", 11L, 2L),
+			dto(3L, "Sunucu bakımı", "Veritabanı yedeklerini kontrol et", 20L, 3L),
+			dto(4L, "Görev takip ekranı", "Raporlama modülü", 10L, 2L)
+		));
+		index = new TaskSearchIndex(gorevRepository);
+		index.rebuild();
+	}
+
+	@Test
+	void normalizationFoldsTurkishCase() {
+		assertThat(TaskSearchIndex.normalize("İSTANBUL")).isEqualTo("istanbul");
+		assertThat(TaskSearchIndex.normalize("ISPARTA")).isEqualTo("isparta");
+		assertThat(TaskSearchIndex.normalize("Görev Şube Çağrı")).isEqualTo("gorev sube cagri");
+		assertThat(TaskSearchIndex.tokenize("Rapor-2024, a  b/özet")).containsExactly("rapor", "2024", "ozet");
+	}
+
+	@Test
+	void nameMatchesRankAboveDescriptionMatches() {
+		TaskSearchIndex.Hits hits = index.search("istanbul", ALL, 0, 10);
+
+		assertThat(hits.gorevIds()).containsExactly(1L, 2L);
+		assertThat(hits.total()).isEqualTo(2);
+	}
+
+	@Test
+	void everyTokenMustMatchAndLastLettersMayBeMissing() {
+		assertThat(index.search("gorev tak", ALL, 0, 10).gorevIds()).containsExactly(4L);
+		assertThat(index.search("rapor", ALL, 0, 10).gorevIds()).containsExactly(1L, 4L);
+		assertThat(index.search("rapor sunucu", ALL, 0, 10).gorevIds()).isEmpty();
+		assertThat(index.search("  ", ALL, 0, 10).total()).isZero();
+	}
+
+	@Test
+	void resultsAreFilteredByVisibilityAndPaginated() {
+		BiPredicate<Long, Long> onlyUser10 = (owner, assignedBy) -> Long.valueOf(10L).equals(owner);
+
+		assertThat(index.search("istanbul", onlyUser10, 0, 10).gorevIds()).containsExactly(1L);
+
+		TaskSearchIndex.Hits secondPage = index.search("rapor", ALL, 1, 1);
+		assertThat(secondPage.gorevIds()).containsExactly(4L);
+		assertThat(secondPage.total()).isEqualTo(2);
+	}
+
+	@Test
+	void writesUpdateIndexIncrementally() {
+		GorevYapisi updated = entity(3L, "Sunucu taşıma", "İstanbul veri merkezi", 20L);
+		index.taskSaved(updated);
+		// Eşit puanda yeni görev önce
+		assertThat(index.search("istanbul", ALL, 0, 10).gorevIds()).containsExactly(1L, 3L, 2L);
+		assertThat(index.search("yedek", ALL, 0, 10).gorevIds()).isEmpty();
+
+		index.taskRemoved(1L);
+		assertThat(index.search("istanbul", ALL, 0, 10).gorevIds()).containsExactly(3L, 2L);
+		assertThat(index.size()).isEqualTo(3);
+	}
+
+	private static GorevDto dto(Long id, String isim, String description, Long userId, Long assignedById) {
+		return new GorevDto(id, isim, description, userId, "HIGH", "PENDING", false, assignedById, null);
+	}
+
+	private static GorevYapisi entity(Long id, String isim, String description, Long userId) {
+		GorevYapisi gorev = new GorevYapisi();
+		gorev.setGorevid(id);
+		gorev.setIsim(isim);
+		gorev.setDescription(description);
+		gorev.setUserid(userId);
+		User assignedBy = new User();
+		assignedBy.setId(3L);
+		gorev.setAssignedBy(assignedBy);
+		return gorev;
+	}
+}
@@ -0,0 +1,164 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.TaskRollupDto;
+import com.erdemirProje.gorevTakip.dto.TaskTreeNodeDto;
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.gorevRepo.GorevYapisiRepository;
+import com.erdemirProje.gorevTakip.support.TestFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.erdemirProje.gorevTakip.support.TestFixtures.countStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Görev alt ağacı okuma ve roll-up sayaçlarının artımlı bakımı
+ */
+@DataJpaTest(properties = {
+		"spring.flyway.enabled=false",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(TaskTreeService.class)
+class TaskTreeServiceTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private TaskTreeService taskTree;
+
+	@Autowired
+	private GorevYapisiRepository gorevRepository;
+
+	private User owner;
+
+	@BeforeEach
+	void setUp() {
+		owner = entityManager.persist(TestFixtures.user("agac", User.Role.MANAGER, null));
+	}
+
+	@Test
+	void treeIsNestedWithRolledUpCounts() {
+		GorevYapisi root = task("root", "PENDING", null);
+		task("a", "COMPLETED", root);
+		GorevYapisi b = task("b", "IN_PROGRESS", root);
+		task("b1", "COMPLETED", b);
+		task("b2", "PENDING", b);
+		task("baska", "COMPLETED", null);
+
+		TaskTreeNodeDto tree = taskTree.getTree(root.getGorevid());
+
+		assertThat(tree.getChildren()).extracting(node -> node.getTask().getIsim()).containsExactly("a", "b");
+		assertThat(tree.getRollup().getTotalTasks()).isEqualTo(5);
+		assertThat(tree.getRollup().getCompletedTasks()).isEqualTo(2);
+		assertThat(tree.getRollup().getStatusCounts()).containsEntry("PENDING", 2L).containsEntry("IN_PROGRESS", 1L);
+
+		TaskTreeNodeDto bNode = tree.getChildren().get(1);
+		assertThat(bNode.getChildren()).hasSize(2);
+		assertThat(bNode.getRollup().getTotalTasks()).isEqualTo(3);
+		assertThat(bNode.getRollup().getCompletionRate()).isEqualTo(100.0 / 3);
+	}
+
+	@Test
+	void subtreeLoadDoesNotDependOnDepth() {
+		GorevYapisi shallow = chain(3);
+		GorevYapisi deep = chain(40);
+
+		long shallowStatements = countStatements(entityManager, () -> taskTree.getTree(shallow.getGorevid()));
+		long deepStatements = countStatements(entityManager, () -> taskTree.getTree(deep.getGorevid()));
+
+		// Path okuma + alt ağaç sorgusu
+		assertThat(shallowStatements).isEqualTo(2);
+		assertThat(deepStatements).isEqualTo(2);
+		TaskTreeNodeDto node = taskTree.getTree(deep.getGorevid());
+		int depth = 0;
+		while (!node.getChildren().isEmpty()) {
+			node = node.getChildren().get(0);
+			depth++;
+		}
+		assertThat(depth).isEqualTo(39);
+	}
+
+	@Test
+	void childStatusChangeUpdatesAncestorsWithoutQuery() {
+		GorevYapisi root = task("root", "PENDING", null);
+		GorevYapisi middle = task("middle", "PENDING", root);
+		GorevYapisi leaf = task("leaf", "IN_PROGRESS", middle);
+		taskTree.getTree(root.getGorevid());
+
+		leaf.setStatus("COMPLETED");
+		entityManager.flush();
+		taskTree.statusChanged(leaf, "IN_PROGRESS");
+
+		TaskRollupDto[] cached = new TaskRollupDto[1];
+		assertThat(countStatements(entityManager, () -> cached[0] = taskTree.getRollup(root.getGorevid()))).isZero();
+		assertThat(cached[0].getStatusCounts()).isEqualTo(Map.of("PENDING", 2L, "COMPLETED", 1L));
+		assertThat(taskTree.getRollup(middle.getGorevid()).getCompletedTasks()).isEqualTo(1);
+		assertThat(taskTree.getRollup(leaf.getGorevid()).getStatusCounts()).isEqualTo(Map.of("COMPLETED", 1L));
+		assertThat(cached[0].getStatusCounts()).isEqualTo(countFromDatabase(root));
+	}
+
+	@Test
+	void addedAndRemovedTasksAdjustAncestors() {
+		GorevYapisi root = task("root", "PENDING", null);
+		GorevYapisi middle = task("middle", "PENDING", root);
+		taskTree.getRollup(root.getGorevid());
+
+		GorevYapisi added = task("added", "COMPLETED", middle);
+		taskTree.taskAdded(added);
+		assertThat(taskTree.getRollup(root.getGorevid()).getStatusCounts()).isEqualTo(countFromDatabase(root));
+
+		entityManager.remove(added);
+		entityManager.flush();
+		taskTree.taskRemoved(added);
+		assertThat(taskTree.getRollup(root.getGorevid()).getStatusCounts()).isEqualTo(Map.of("PENDING", 2L));
+	}
+
+	@Test
+	void pathIsReadWhenParentIsOnlyAReference() {
+		GorevYapisi root = task("root", "PENDING", null);
+		GorevYapisi middle = task("middle", "PENDING", root);
+
+		GorevYapisi reference = new GorevYapisi();
+		reference.setGorevid(middle.getGorevid());
+		GorevYapisi child = new GorevYapisi();
+		child.setParentTask(reference);
+		taskTree.assignPath(child);
+
+		assertThat(child.getTreePath()).isEqualTo("/" + root.getGorevid() + "/" + middle.getGorevid() + "/");
+	}
+
+	private GorevYapisi chain(int length) {
+		GorevYapisi root = task("zincir0", "PENDING", null);
+		GorevYapisi parent = root;
+		for (int i = 1; i < length; i++) {
+			parent = task("zincir" + i, i % 2 == 0 ? "COMPLETED" : "PENDING", parent);
+		}
+		return root;
+	}
+
+	private Map<String, Long> countFromDatabase(GorevYapisi gorev) {
+		String prefix = TaskTreeService.childPath(gorev.getTreePath(), gorev.getGorevid()) + "%";
+		Map<String, Long> counts = new HashMap<>();
+		for (GorevYapisiRepository.StatusCount count : gorevRepository.countSubtreeByStatus(gorev.getGorevid(), prefix)) {
+			counts.put(count.getStatus(), count.getCount());
+		}
+		return counts;
+	}
+
+	private GorevYapisi task(String isim, String status, GorevYapisi parent) {
+		GorevYapisi task = TestFixtures.task(isim, owner, null, status, parent);
+		taskTree.assignPath(task);
+		entityManager.persist(task);
+		entityManager.flush();
+		return task;
+	}
+}
@@ -0,0 +1,68 @@
+package com.erdemirProje.gorevTakip.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskVersionStampsTest {
+
+	private final TaskVersionStamps stamps = new TaskVersionStamps(0);
+
+	@Test
+	void tagsAreStableUntilScopeIsWritten() {
+		String userTag = stamps.userTag(5L);
+		String teamTag = stamps.managerTeamTag(2L);
+
+		stamps.taskChanged(6L, 3L);
+
+		assertThat(stamps.userTag(5L)).isEqualTo(userTag);
+		assertThat(stamps.managerTeamTag(2L)).isEqualTo(teamTag);
+		assertThat(userTag).startsWith("\"").endsWith("\"");
+	}
+
+	@Test
+	void taskWriteBumpsOwnerAndAssigningManager() {
+		String userTag = stamps.userTag(5L);
+		String teamTag = stamps.managerTeamTag(2L);
+		String managerTasksTag = stamps.managerTasksTag(2L);
+
+		stamps.taskChanged(5L, 2L);
+
+		assertThat(stamps.userTag(5L)).isNotEqualTo(userTag);
+		assertThat(stamps.managerTeamTag(2L)).isNotEqualTo(teamTag);
+		assertThat(stamps.managerTasksTag(2L)).isNotEqualTo(managerTasksTag);
+	}
+
+	@Test
+	void managerOwnTaskChangesOnlyMyTasksTag() {
+		String teamTag = stamps.managerTeamTag(2L);
+		String managerTasksTag = stamps.managerTasksTag(2L);
+
+		stamps.taskChanged(2L, 1L);
+
+		assertThat(stamps.managerTeamTag(2L)).isEqualTo(teamTag);
+		assertThat(stamps.managerTasksTag(2L)).isNotEqualTo(managerTasksTag);
+	}
+
+	@Test
+	void bulkReportBumpsAffectedMembers() {
+		String memberTag = stamps.userTag(10L);
+		String otherTag = stamps.userTag(11L);
+
+		stamps.managerTasksChanged(2L, new long[] {10L});
+
+		assertThat(stamps.userTag(10L)).isNotEqualTo(memberTag);
+		assertThat(stamps.userTag(11L)).isEqualTo(otherTag);
+	}
+
+	@Test
+	void invalidateAllChangesEveryTag() {
+		String userTag = stamps.userTag(5L);
+		String teamTag = stamps.managerTeamTag(2L);
+
+		stamps.invalidateAll();
+
+		assertThat(stamps.userTag(5L)).isNotEqualTo(userTag);
+		assertThat(stamps.managerTeamTag(2L)).isNotEqualTo(teamTag);
+	}
+}
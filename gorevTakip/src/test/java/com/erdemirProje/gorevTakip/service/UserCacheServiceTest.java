@@ -0,0 +1,79 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.config.CacheConfig;
+import com.erdemirProje.gorevTakip.dto.CacheStatsDto;
+import com.erdemirProje.gorevTakip.dto.UserDto;
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig({CacheConfig.class, UserCacheService.class})
+class UserCacheServiceTest {
+
+	@Autowired
+	private UserCacheService userCache;
+
+	@MockitoBean
+	private UserRepository userRepository;
+
+	@BeforeEach
+	void setUp() {
+		userCache.evictAll();
+		User user = new User();
+		user.setId(5L);
+		user.setUsername("member");
+		user.setRole(User.Role.TEAM_MEMBER);
+		when(userRepository.findById(5L)).thenReturn(Optional.of(user));
+	}
+
+	@Test
+	void repeatedLookupsHitTheCache() {
+		userCache.findUser(5L);
+		userCache.findUser(5L);
+		userCache.findUser(5L);
+
+		verify(userRepository, times(1)).findById(5L);
+		CacheStatsDto stats = userCache.getStats();
+		assertThat(stats.getHitCount()).isGreaterThanOrEqualTo(2);
+		assertThat(stats.getSize()).isEqualTo(1);
+	}
+
+	@Test
+	void writesReplaceCachedEntry() {
+		userCache.findUser(5L);
+
+		UserDto updated = new UserDto(5L, "renamed", "m@gorevtakip.com", "Yeni Ad", User.Role.TEAM_MEMBER, true, null, 2L);
+		userCache.put(updated);
+
+		assertThat(userCache.findUser(5L).getUsername()).isEqualTo("renamed");
+		verify(userRepository, times(1)).findById(5L);
+	}
+
+	@Test
+	void evictAllForcesReload() {
+		userCache.findUser(5L);
+		userCache.evictAll();
+		userCache.findUser(5L);
+
+		verify(userRepository, times(2)).findById(5L);
+	}
+
+	@Test
+	void missingUsersAreNotCached() {
+		assertThat(userCache.findUser(99L)).isNull();
+		assertThat(userCache.findUser(99L)).isNull();
+
+		verify(userRepository, times(2)).findById(99L);
+	}
+}
@@ -0,0 +1,173 @@
+package com.erdemirProje.gorevTakip.service;
+
+import com.erdemirProje.gorevTakip.dto.GorevDto;
+import com.erdemirProje.gorevTakip.dto.UserDto;
+import com.erdemirProje.gorevTakip.entity.User;
+import com.erdemirProje.gorevTakip.entity.UserHierarchy;
+import com.erdemirProje.gorevTakip.repository.UserHierarchyRepository;
+import com.erdemirProje.gorevTakip.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.erdemirProje.gorevTakip.support.TestFixtures.countStatements;
+import static com.erdemirProje.gorevTakip.support.TestFixtures.task;
+import static com.erdemirProje.gorevTakip.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Closure table bakımı ve derin ağaçlarda tek sorgu ile alt ağaç okuma
+ */
+@DataJpaTest(properties = {
+		"spring.flyway.enabled=false",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(UserHierarchyService.class)
+class UserHierarchyServiceTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private UserHierarchyService hierarchyService;
+
+	@Autowired
+	private UserHierarchyRepository hierarchyRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void descendantsOfDeepTreeUseSingleStatement() {
+		List<Long> shallow = chain("s", 5);
+		List<Long> deep = chain("d", 200);
+
+		assertThat(countStatements(entityManager, () -> hierarchyService.getDescendants(shallow.get(0)))).isEqualTo(1);
+		assertThat(countStatements(entityManager, () -> hierarchyService.getDescendants(deep.get(0)))).isEqualTo(1);
+		assertThat(hierarchyService.getDescendants(deep.get(0)))
+				.extracting(UserDto::getId)
+				.containsExactlyElementsOf(deep.subList(1, deep.size()));
+	}
+
+	@Test
+	void orgTasksCoverEveryLevel() {
+		List<Long> ids = chain("t", 30);
+		User root = entityManager.find(User.class, ids.get(0));
+		for (Long id : ids) {
+			entityManager.persist(task("gorev" + id, entityManager.find(User.class, id), root, "PENDING"));
+		}
+		entityManager.flush();
+
+		long statements = countStatements(entityManager, () -> hierarchyService.getOrgTasks(ids.get(0)));
+		List<GorevDto> tasks = hierarchyService.getOrgTasks(ids.get(0));
+
+		assertThat(statements).isEqualTo(1);
+		assertThat(tasks).extracting(GorevDto::getUserid)
+				.containsExactlyInAnyOrderElementsOf(ids.subList(1, ids.size()));
+	}
+
+	@Test
+	void movingSubtreeRewritesPaths() {
+		List<Long> left = chain("l", 4);   // l0 > l1 > l2 > l3
+		List<Long> right = chain("r", 2);  // r0 > r1
+
+		User moved = entityManager.find(User.class, left.get(2));
+		moved.setManager(entityManager.find(User.class, right.get(1)));
+		entityManager.flush();
+		hierarchyService.managerChanged(left.get(2), right.get(1));
+
+		assertThat(ids(hierarchyService.getDescendants(left.get(0)))).containsExactly(left.get(1));
+		assertThat(ids(hierarchyService.getDescendants(right.get(0))))
+				.containsExactly(right.get(1), left.get(2), left.get(3));
+		assertThat(hierarchyRepository.findById(new UserHierarchy.Key(right.get(0), left.get(3))))
+				.get().extracting(UserHierarchy::getDepth).isEqualTo(3);
+		assertClosureMatchesRebuild();
+	}
+
+	@Test
+	void moveIntoOwnSubtreeIsRejected() {
+		List<Long> ids = chain("c", 3);
+
+		assertThatThrownBy(() -> hierarchyService.managerChanged(ids.get(0), ids.get(2)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void deletingUserRemovesItsSubtreeRows() {
+		List<Long> ids = chain("x", 4);
+
+		hierarchyService.userDeleted(ids.get(1));
+
+		assertThat(ids(hierarchyService.getDescendants(ids.get(0)))).isEmpty();
+		assertThat(hierarchyRepository.countByDepth(0)).isEqualTo(1);
+	}
+
+	/**
+	 * Seviye seviye gezinme derinlik kadar sorgu çalıştırır, closure table tek sorgu
+	 * (süre karşılaştırması: OrgHierarchyBenchmark, mvn -Pbenchmark verify)
+	 */
+	@Test
+	void closureUsesOneStatementWhereLevelByLevelWalkUsesOnePerLevel() {
+		int depth = 100;
+		List<Long> ids = chain("b", depth);
+		Long rootId = ids.get(0);
+
+		assertThat(countStatements(entityManager, () -> hierarchyService.getDescendants(rootId))).isEqualTo(1);
+		assertThat(countStatements(entityManager, () -> walkLevelByLevel(rootId))).isGreaterThanOrEqualTo(depth - 1);
+	}
+
+	private List<Long> walkLevelByLevel(Long rootId) {
+		List<Long> found = new ArrayList<>();
+		List<User> level = List.of(entityManager.find(User.class, rootId));
+		while (!level.isEmpty()) {
+			List<User> next = new ArrayList<>();
+			for (User user : level) {
+				next.addAll(userRepository.findByManager(user));
+			}
+			next.forEach(user -> found.add(user.getId()));
+			level = next;
+		}
+		return found;
+	}
+
+	private void assertClosureMatchesRebuild() {
+		Comparator<UserHierarchy> order = Comparator.comparing(UserHierarchy::getAncestorId)
+				.thenComparing(UserHierarchy::getDescendantId);
+		List<UserHierarchy> incremental = new ArrayList<>(hierarchyRepository.findAll());
+		incremental.sort(order);
+
+		hierarchyService.rebuild();
+		List<UserHierarchy> rebuilt = new ArrayList<>(hierarchyRepository.findAll());
+		rebuilt.sort(order);
+
+		assertThat(incremental).isEqualTo(rebuilt);
+	}
+
+	/**
+	 * prefix0 > prefix1 > ... zinciri oluşturur, id'leri kökten yaprağa döner
+	 */
+	private List<Long> chain(String prefix, int length) {
+		List<Long> ids = new ArrayList<>();
+		User manager = null;
+		for (int i = 0; i < length; i++) {
+			User user = entityManager.persist(user(prefix + i, i == 0 ? User.Role.DIRECTOR : User.Role.MANAGER, manager));
+			entityManager.flush();
+			hierarchyService.userCreated(user.getId(), manager != null ? manager.getId() : null);
+			ids.add(user.getId());
+			manager = user;
+		}
+		entityManager.clear();
+		return ids;
+	}
+
+	private static List<Long> ids(List<UserDto> users) {
+		return users.stream().map(UserDto::getId).toList();
+	}
+}
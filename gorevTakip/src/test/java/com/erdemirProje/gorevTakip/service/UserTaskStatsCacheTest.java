@@ -0,0 +1,75 @@
+package com.erdemirProje.gorevTakip.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserTaskStatsCacheTest {
+
+	private final UserTaskStatsCache cache = new UserTaskStatsCache();
+
+	@Test
+	void countsLoadedDuringAWriteAreNotCached() {
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(1L, () -> {
+			loads.incrementAndGet();
+			cache.invalidate(1L); // Yükleme sürerken commit edilen yazma
+			return new UserTaskStatsCache.Counters(3, 3, 0);
+		});
+		UserTaskStatsCache.Counters reloaded = cache.get(1L, () -> {
+			loads.incrementAndGet();
+			return new UserTaskStatsCache.Counters(4, 4, 0);
+		});
+
+		assertThat(loads).hasValue(2);
+		assertThat(reloaded.total()).isEqualTo(4);
+	}
+
+	@Test
+	void writesOfOtherUsersKeepCachedCounts() {
+		cache.get(1L, () -> new UserTaskStatsCache.Counters(3, 2, 1));
+
+		cache.get(2L, () -> {
+			cache.invalidate(3L); // Başka kullanıcının yazması bu yüklemeyi etkilemez
+			return new UserTaskStatsCache.Counters(1, 1, 0);
+		});
+		cache.invalidate(2L, 3L);
+
+		UserTaskStatsCache.Counters counters = cache.get(1L, () -> {
+			throw new AssertionError("Önbellekten okunmalıydı");
+		});
+		assertThat(counters.total()).isEqualTo(3);
+		assertThat(cache.get(2L, () -> new UserTaskStatsCache.Counters(2, 2, 0)).total()).isEqualTo(2);
+	}
+
+	@Test
+	void invalidateForcesReload() {
+		cache.get(1L, () -> new UserTaskStatsCache.Counters(3, 2, 1));
+
+		cache.invalidate(1L);
+
+		assertThat(cache.get(1L, () -> new UserTaskStatsCache.Counters(0, 0, 0)).total()).isZero();
+	}
+
+	@Test
+	void invalidationInsideTransactionWaitsForCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			cache.invalidate(1L);
+			// Commit'ten önce okunan (yazmayı içermeyen) sayılar commit sonrasında düşmeli
+			cache.get(1L, () -> new UserTaskStatsCache.Counters(3, 2, 1));
+			assertThat(cache.get(1L, () -> new UserTaskStatsCache.Counters(0, 0, 0)).total()).isEqualTo(3);
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(cache.get(1L, () -> new UserTaskStatsCache.Counters(4, 3, 1)).total()).isEqualTo(4);
+	}
+}
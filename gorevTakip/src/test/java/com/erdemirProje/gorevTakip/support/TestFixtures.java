@@ -0,0 +1,85 @@
+package com.erdemirProje.gorevTakip.support;
+
+import com.erdemirProje.gorevTakip.entity.GorevYapisi;
+import com.erdemirProje.gorevTakip.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @DataJpaTest testlerinin ortak verisi: kullanıcı / görev oluşturma, örnek müdür ekibi ve SQL sayımı
+ * Sayım için testte spring.jpa.properties.hibernate.generate_statistics=true verilmeli.
+ */
+public final class TestFixtures {
+
+	private TestFixtures() {
+	}
+
+	public static User user(String username, User.Role role, User manager) {
+		User user = new User();
+		user.setUsername(username);
+		user.setPassword("secret");
+		user.setEmail(username + "@gorevtakip.com");
+		user.setRole(role);
+		user.setIsActive(true);
+		user.setManager(manager);
+		return user;
+	}
+
+	public static GorevYapisi task(String isim, User owner, User assignedBy, String status) {
+		return task(isim, owner, assignedBy, status, null);
+	}
+
+	public static GorevYapisi task(String isim, User owner, User assignedBy, String status, GorevYapisi parent) {
+		GorevYapisi task = new GorevYapisi();
+		task.setIsim(isim);
+		task.setDescription(isim);
+		task.setUser(owner);
+		task.setAssignedBy(assignedBy);
+		task.setParentTask(parent);
+		task.setPriority("HIGH");
+		task.setStatus(status);
+		return task;
+	}
+
+	/**
+	 * Direktör > müdür > teamSize ekip üyesi; her üye için direktörün müdüre verdiği bir üst görev ile
+	 * müdürün üyeye verdiği bir COMPLETED ve bir IN_PROGRESS görev
+	 */
+	public static TeamOrg seedTeam(TestEntityManager entityManager, String prefix, int teamSize) {
+		User director = entityManager.persist(user(prefix + "director", User.Role.DIRECTOR, null));
+		User manager = entityManager.persist(user(prefix + "manager", User.Role.MANAGER, director));
+
+		List<Long> memberIds = new ArrayList<>();
+		for (int i = 0; i < teamSize; i++) {
+			User member = entityManager.persist(user(prefix + "member" + i, User.Role.TEAM_MEMBER, manager));
+			memberIds.add(member.getId());
+			entityManager.persist(task(prefix + "m" + i, manager, director, "PENDING"));
+			entityManager.persist(task(prefix + "e" + i, member, manager, "COMPLETED"));
+			entityManager.persist(task(prefix + "d" + i, member, manager, "IN_PROGRESS"));
+		}
+		entityManager.flush();
+		return new TeamOrg(director.getId(), manager.getId(), memberIds);
+	}
+
+	/**
+	 * Bekleyen yazmaları gönderip persistence context'i boşaltır ve query'nin çalıştırdığı SQL sayısını döner
+	 */
+	public static long countStatements(TestEntityManager entityManager, Runnable query) {
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = entityManager.getEntityManager()
+				.getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+		statistics.clear();
+		query.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	public record TeamOrg(Long directorId, Long managerId, List<Long> teamMemberIds) {
+	}
+}